@@ -0,0 +1,72 @@
+package GamersCoveDev.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String GAMES_BY_ID = "gamesById";
+    public static final String GAMES_BY_EXTERNAL_API_ID = "gamesByExternalApiId";
+    public static final String GAMES_BY_TITLE = "gamesByTitle";
+
+    @Value("${games.cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${games.cache.ttl:10m}")
+    private Duration ttl;
+
+    @Value("${games.cache.negative-ttl:30s}")
+    private Duration negativeTtl;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Only the caches registered below exist; unknown names fail fast
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(GAMES_BY_ID, buildGameCache());
+        cacheManager.registerCustomCache(GAMES_BY_EXTERNAL_API_ID, buildGameCache());
+        cacheManager.registerCustomCache(GAMES_BY_TITLE, buildGameCache());
+        return cacheManager;
+    }
+
+    // Size-bounded, TTL-expiring cache; misses (stored as NullValue) expire sooner than hits
+    private Cache<Object, Object> buildGameCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<Object, Object>() {
+                    @Override
+                    public long expireAfterCreate(Object key, Object value, long currentTime) {
+                        return ttlFor(value);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+                        return ttlFor(value);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    private long ttlFor(Object value) {
+        return value == NullValue.INSTANCE ? negativeTtl.toNanos() : ttl.toNanos();
+    }
+}
@@ -1,14 +1,110 @@
 package GamersCoveDev.config;
 
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
+/**
+ * Outbound HTTP client. The RestTemplate runs on a pooled Apache HttpClient with
+ * bounded connect/read/pool-wait timeouts, so a slow upstream cannot hold a request thread
+ * forever; it is built through RestTemplateBuilder so http.client.requests latency metrics
+ * are recorded. The image RestTemplate shares the pool but leaves redirects to its caller.
+ */
 @Configuration
 public class RestConfig {
 
+    @Value("${http.client.max-total:50}")
+    private int maxTotal;
+
+    @Value("${http.client.max-per-route:10}")
+    private int maxPerRoute;
+
+    @Value("${http.client.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${http.client.read-timeout:30s}")
+    private Duration readTimeout;
+
+    @Value("${http.client.pool-acquire-timeout:5s}")
+    private Duration poolAcquireTimeout;
+
+    @Value("${http.client.idle-eviction:30s}")
+    private Duration idleEviction;
+
+    @Value("${http.client.time-to-live:5m}")
+    private Duration timeToLive;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager outboundConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(timeToLive))
+                        // Re-check connections that sat idle, instead of failing on a stale one
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient outboundHttpClient(PoolingHttpClientConnectionManager outboundConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(outboundConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolAcquireTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction))
+                .build();
+    }
+
+    // Pool gauges: httpcomponents.httpclient.pool.total.{max,connections,pending}, tagged httpclient=outbound
+    @Bean
+    public PoolingHttpClientConnectionManagerMetricsBinder outboundConnectionPoolMetrics(
+            PoolingHttpClientConnectionManager outboundConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(outboundConnectionManager, "outbound");
+    }
+
+    @Bean
+    @Primary
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient outboundHttpClient) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(outboundHttpClient))
+                .build();
+    }
+
+    // For user-supplied URLs: 3xx responses come back as-is so every hop can be checked before it is followed
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate imageRestTemplate(RestTemplateBuilder builder, CloseableHttpClient outboundHttpClient) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(outboundHttpClient) {
+                    @Override
+                    protected RequestConfig createRequestConfig(Object client) {
+                        RequestConfig config = super.createRequestConfig(client);
+                        return (config != null ? RequestConfig.copy(config) : RequestConfig.custom())
+                                .setRedirectsEnabled(false)
+                                .build();
+                    }
+                })
+                .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package GamersCoveDev.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled jobs (IGDBDeltaSyncJob, RatingAggregateRepairJob) are each guarded by their own enabled
+// property and share Spring's single scheduler thread, so one waits while the other runs. The review
+// vote flush is not one of them: ReviewVoteService runs it on a dedicated thread.
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
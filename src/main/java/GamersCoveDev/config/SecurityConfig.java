@@ -33,6 +33,7 @@ public class SecurityConfig {
         "/css/**",
         "/js/**",
         "/images/**",
+        "/img/**",            // Cached, resized cover images
         "/actuator/health",
         "/v3/api-docs/**",
         "/swagger-ui/**",
@@ -53,6 +54,8 @@ public class SecurityConfig {
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             .authorizeHttpRequests(auth -> auth
+                // Catalog imports, syncs and bulk upserts: Firebase users carrying the "admin" custom claim only
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 // Public endpoints
                 .requestMatchers(
                     "/",
@@ -64,6 +67,7 @@ public class SecurityConfig {
                     "/css/**",
                     "/js/**",
                     "/images/**",
+                    "/img/**",
                     "/actuator/health",
                     "/v3/api-docs/**",
                     "/swagger-ui/**",
@@ -0,0 +1,214 @@
+package GamersCoveDev.config.testdata;
+
+import GamersCoveDev.domains.entities.GameEntity;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Seeds the games table straight from games_dto.json (a JSON array) or an NDJSON export,
+ * without HTTP or JPA. Records are streamed into a temporary staging table with
+ * COPY FROM STDIN, given ids from pooled game_sequence blocks, and merged into games with
+ * a single INSERT ... ON CONFLICT. Everything runs in one transaction.
+ *
+ * Run with --spring.profiles.active=bulk-load --bulk-load.file=games_dto.json
+ */
+@Component
+@Profile("bulk-load")
+@Order(1)
+public class GameBulkLoader implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameBulkLoader.class);
+
+    private static final int MAX_EXTERNAL_ID_LENGTH = 100;
+
+    private static final String CREATE_STAGING =
+            "CREATE TEMP TABLE games_staging (" +
+            "seq BIGSERIAL, id BIGINT, external_api_id TEXT, name TEXT, title TEXT, description TEXT, " +
+            "cover_image_url TEXT, release_date DATE, platforms TEXT[], genres TEXT[]) ON COMMIT DROP";
+
+    private static final String COPY_STAGING =
+            "COPY games_staging (external_api_id, name, title, description, cover_image_url, release_date, " +
+            "platforms, genres) FROM STDIN WITH (FORMAT csv)";
+
+    // Same block scheme as GameIdAllocator: each nextval H reserves (H - allocationSize, H]
+    private static final String ASSIGN_IDS =
+            "WITH blocks AS (" +
+            "SELECT row_number() OVER () - 1 AS block, nextval('game_sequence') AS hi " +
+            "FROM generate_series(1, (SELECT (count(*) + %1$d - 1) / %1$d FROM games_staging))) " +
+            "UPDATE games_staging s SET id = b.hi - %1$d + 1 + (s.seq - 1) %% %1$d " +
+            "FROM blocks b WHERE b.block = (s.seq - 1) / %1$d";
+
+    // The last record wins when the input repeats an external id
+    private static final String MERGE =
+            "WITH merged AS (" +
+            "INSERT INTO games (id, external_api_id, name, title, description, cover_image_url, release_date, " +
+            "platforms, genres) " +
+            "SELECT id, external_api_id, left(coalesce(name, title), 255), left(title, 200), description, " +
+            "cover_image_url, release_date, platforms, genres " +
+            "FROM (SELECT DISTINCT ON (external_api_id) * FROM games_staging ORDER BY external_api_id, seq DESC) s " +
+            "ON CONFLICT (external_api_id) DO UPDATE SET " +
+            "name = EXCLUDED.name, " +
+            "title = EXCLUDED.title, " +
+            "description = EXCLUDED.description, " +
+            "cover_image_url = EXCLUDED.cover_image_url, " +
+            "release_date = EXCLUDED.release_date, " +
+            "platforms = EXCLUDED.platforms, " +
+            "genres = EXCLUDED.genres " +
+            "RETURNING (xmax = 0) AS inserted) " +
+            "SELECT count(*) FILTER (WHERE inserted), count(*) FILTER (WHERE NOT inserted) FROM merged";
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final String file;
+
+    public GameBulkLoader(DataSource dataSource,
+                          ObjectMapper objectMapper,
+                          @Value("${bulk-load.file:games_dto.json}") String file) {
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.file = file;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        logger.info("=== BULK LOADING GAMES FROM {} (Profile: bulk-load) ===", file);
+        long started = System.nanoTime();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                // Losing the tail of a seeding run on a crash is fine; it is simply re-run
+                statement.execute("SET LOCAL synchronous_commit = off");
+                statement.execute(CREATE_STAGING);
+
+                long[] copied = copyInto(connection.unwrap(PGConnection.class));
+                long copyMs = (System.nanoTime() - started) / 1_000_000;
+                logger.info("Copied {} games into staging in {} ms ({} skipped)", copied[0], copyMs, copied[1]);
+
+                statement.execute("ANALYZE games_staging");
+                statement.execute(String.format(ASSIGN_IDS, GameEntity.ID_ALLOCATION_SIZE));
+
+                long inserted;
+                long updated;
+                try (ResultSet rs = statement.executeQuery(MERGE)) {
+                    rs.next();
+                    inserted = rs.getLong(1);
+                    updated = rs.getLong(2);
+                }
+                connection.commit();
+
+                long totalMs = (System.nanoTime() - started) / 1_000_000;
+                logger.info("Merged into games: {} inserted, {} updated, {} ms total ({} games/s)",
+                        inserted, updated, totalMs, totalMs > 0 ? copied[0] * 1000 / totalMs : copied[0]);
+            } catch (Exception e) {
+                connection.rollback();
+                logger.error("Bulk load failed, nothing was written: {}", e.getMessage());
+                throw e;
+            }
+        }
+        logger.info("================================================");
+    }
+
+    // Streams every record as a CSV row; returns {copied, skipped}
+    private long[] copyInto(PGConnection connection) throws IOException, SQLException {
+        long copied = 0;
+        long skipped = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(new File(file));
+             Writer out = new BufferedWriter(new OutputStreamWriter(
+                     new PGCopyOutputStream(connection, COPY_STAGING, 1 << 16), StandardCharsets.UTF_8), 1 << 16)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                token = parser.nextToken();
+            }
+            // A JSON array and NDJSON both come down to a run of objects here
+            while (token == JsonToken.START_OBJECT) {
+                JsonNode game = objectMapper.readTree(parser);
+                String externalApiId = text(game, "externalApiId");
+                String title = text(game, "title");
+                if (externalApiId == null || externalApiId.length() > MAX_EXTERNAL_ID_LENGTH || title == null) {
+                    skipped++;
+                } else {
+                    writeRow(out, externalApiId, text(game, "name"), title, text(game, "description"),
+                            text(game, "coverImageUrl"), releaseDate(game.get("releaseDate")),
+                            arrayLiteral(game.get("platforms")), arrayLiteral(game.get("genres")));
+                    copied++;
+                }
+                token = parser.nextToken();
+            }
+        }
+        return new long[]{copied, skipped};
+    }
+
+    private static void writeRow(Writer out, String... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            // An unquoted empty field is NULL in CSV COPY; everything else is quoted
+            if (values[i] != null) {
+                out.write('"');
+                out.write(values[i].replace("\u0000", "").replace("\"", "\"\""));
+                out.write('"');
+            }
+        }
+        out.write('\n');
+    }
+
+    // Postgres array literal, e.g. {"PC","Nintendo Switch"}
+    private static String arrayLiteral(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        StringBuilder literal = new StringBuilder("{");
+        Iterable<JsonNode> elements = node.isArray() ? node : List.of(node);
+        for (JsonNode element : elements) {
+            if (element.isNull()) {
+                continue;
+            }
+            if (literal.length() > 1) {
+                literal.append(',');
+            }
+            literal.append('"')
+                    .append(element.asText().replace("\\", "\\\\").replace("\"", "\\\""))
+                    .append('"');
+        }
+        return literal.length() > 1 ? literal.append('}').toString() : null;
+    }
+
+    // ISO string, or [year, month, day] when written without the JavaTime date format
+    private static String releaseDate(JsonNode node) {
+        if (node != null && node.isArray() && node.size() == 3) {
+            return String.format("%04d-%02d-%02d", node.get(0).asInt(), node.get(1).asInt(), node.get(2).asInt());
+        }
+        return node == null || node.isNull() || node.asText().isBlank() ? null : node.asText();
+    }
+
+    private static String text(JsonNode game, String field) {
+        JsonNode value = game.get(field);
+        return value == null || value.isNull() || value.asText().isBlank() ? null : value.asText();
+    }
+}
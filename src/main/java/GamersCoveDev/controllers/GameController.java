@@ -1,17 +1,44 @@
 package GamersCoveDev.controllers;
 
+import GamersCoveDev.domains.dto.GameBatchResultDto;
+import GamersCoveDev.domains.dto.GameCardDto;
 import GamersCoveDev.domains.dto.GameDto;
+import GamersCoveDev.domains.dto.GameFacetsDto;
+import GamersCoveDev.domains.dto.GameFilterDto;
+import GamersCoveDev.domains.dto.GameSuggestionDto;
+import GamersCoveDev.domains.dto.PageDto;
 import GamersCoveDev.domains.entities.GameEntity;
 import GamersCoveDev.mappers.Mapper;
 import GamersCoveDev.services.GameService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.http.HttpStatus;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api")
@@ -19,26 +46,44 @@ public class GameController {
 
     private static final Logger logger = LoggerFactory.getLogger(GameController.class);
 
+    // ?view= values for GET /api/games
+    private static final String VIEW_FULL = "full";
+    private static final String VIEW_CARD = "card";
+
     private final GameService gameService;
     private final Mapper<GameEntity, GameDto> gameMapper;
     private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final int maxBatchSize;
 
-       public GameController(GameService gameService, Mapper<GameEntity, GameDto> gameMapper, RestTemplate restTemplate) {
+       public GameController(GameService gameService, Mapper<GameEntity, GameDto> gameMapper, RestTemplate restTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${games.batch.max-size:10000}") int maxBatchSize) {
         this.gameService = gameService;
         this.gameMapper = gameMapper;
         this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @GetMapping(path = "/games/{gameId}")
-    public ResponseEntity<GameDto> getGameById(@PathVariable("gameId") Long gameId) {
+    public ResponseEntity<GameDto> getGameById(@PathVariable("gameId") Long gameId, WebRequest request) {
         logger.info("=== GET /api/games/{} ===", gameId);
 
         Optional<GameEntity> game = gameService.findById(gameId);
 
         if (game.isPresent()) {
+            // Revalidate on If-None-Match / If-Modified-Since before mapping anything
+            Instant updatedAt = game.get().getUpdatedAt();
+            if (updatedAt != null
+                    && request.checkNotModified(gameId + "-" + toEpochMicros(updatedAt), updatedAt.toEpochMilli())) {
+                logger.info("Game {} not modified", gameId);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).build();
+            }
+
             GameDto gameDto = gameMapper.mapTo(game.get());
             logger.info("Found game: {}", gameDto.getTitle());
-            return ResponseEntity.ok(gameDto);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(gameDto);
         } else {
             logger.warn("Game not found with ID: {}", gameId);
             return ResponseEntity.notFound().build();
@@ -46,25 +91,42 @@ public class GameController {
     }
 
     @GetMapping(path = "/games")
-    public ResponseEntity<List<GameDto>> getAllGames(
-            @RequestParam(required = false) String search) {
+    public ResponseEntity<PageDto<?>> getAllGames(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false) String platform,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate releasedAfter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = VIEW_FULL) String view) {
         logger.info("=== GET /api/games ===");
         
         try {
-            List<GameEntity> games;
+            if (VIEW_CARD.equalsIgnoreCase(view)) {
+                return ResponseEntity.ok(getGameCards(search, genre, platform, releasedAfter, cursor, limit));
+            }
+            if (!VIEW_FULL.equalsIgnoreCase(view)) {
+                throw new IllegalArgumentException("Unknown view: " + view);
+            }
+
+            PageDto<GameEntity> games;
             if (search != null && !search.trim().isEmpty()) {
-                logger.info("Searching games with term: {}", search);
-                games = gameService.searchGames(search);
+                // Relevance-ranked, paged on (rank, id) with the same ?cursor= as the plain listing
+                logger.info("Searching games with term: {}, cursor: {}", search, cursor);
+                games = gameService.searchGames(search, cursor, limit);
             } else {
-                logger.info("Fetching all games from database");
-                games = gameService.findAll();
+                logger.info("Fetching games page after cursor: {}", cursor);
+                GameFilterDto filter = GameFilterDto.builder()
+                        .genre(blankToNull(genre))
+                        .platform(blankToNull(platform))
+                        .releasedAfter(releasedAfter)
+                        .build();
+                games = gameService.findPage(filter, cursor, limit);
             }
             
-            List<GameDto> gameDtos = games.stream()
-                    .map(gameMapper::mapTo)
-                    .collect(java.util.stream.Collectors.toList());
+            PageDto<GameDto> gameDtos = games.map(gameMapper::mapTo);
 
-            logger.info("Found {} games", gameDtos.size());
+            logger.info("Found {} games, next cursor: {}", gameDtos.getItems().size(), gameDtos.getNextCursor());
             return ResponseEntity.ok(gameDtos);
         } catch (Exception e) {
             logger.error("Error fetching games: {}", e.getMessage());
@@ -72,6 +134,81 @@ public class GameController {
         }
     }
 
+    // Card columns come straight from the query, with no entity load and no mapper pass
+    private PageDto<GameCardDto> getGameCards(String search, String genre, String platform, LocalDate releasedAfter,
+                                              String cursor, Integer limit) {
+        PageDto<GameCardDto> cards;
+        if (search != null && !search.trim().isEmpty()) {
+            cards = gameService.searchGameCards(search, cursor, limit);
+        } else {
+            GameFilterDto filter = GameFilterDto.builder()
+                    .genre(blankToNull(genre))
+                    .platform(blankToNull(platform))
+                    .releasedAfter(releasedAfter)
+                    .build();
+            cards = gameService.findCardPage(filter, cursor, limit);
+        }
+        logger.info("Found {} game cards, next cursor: {}", cards.getItems().size(), cards.getNextCursor());
+        return cards;
+    }
+
+    @GetMapping(path = "/games/suggest")
+    public ResponseEntity<List<GameSuggestionDto>> suggestGames(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(gameService.suggestTitles(query, limit));
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid suggest request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(path = "/games/facets")
+    public ResponseEntity<GameFacetsDto> getGameFacets(
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false) String platform,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate releasedAfter) {
+        GameFilterDto filter = GameFilterDto.builder()
+                .genre(blankToNull(genre))
+                .platform(blankToNull(platform))
+                .releasedAfter(releasedAfter)
+                .build();
+        return ResponseEntity.ok(gameService.getFacets(filter));
+    }
+
+    // Streams the whole catalog as one GameDto per line; heap use does not grow with the catalog
+    @GetMapping(path = "/games/export")
+    public ResponseEntity<StreamingResponseBody> exportGames(@RequestParam(defaultValue = "false") boolean gzip) {
+        logger.info("=== GET /api/games/export (gzip={}) ===", gzip);
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = gzip
+                    ? new GZIPOutputStream(outputStream, 64 * 1024)
+                    : new BufferedOutputStream(outputStream, 64 * 1024);
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+
+            long count = gameService.forEachGame(game -> {
+                try {
+                    objectMapper.writeValue(generator, gameMapper.mapTo(game));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeRaw('\n');
+            generator.close();
+            logger.info("Exported {} games", count);
+        };
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_NDJSON);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+
     @PostMapping(path = "/games")
     public ResponseEntity<GameDto> createGame(@RequestBody GameDto gameDto) {
         logger.info("=== POST /api/games ===");
@@ -94,4 +231,58 @@ public class GameController {
             return ResponseEntity.badRequest().build();
         }
     }
-}
\ No newline at end of file
+
+    // Bulk catalog upsert; under /api/admin, so Firebase users with the "admin" claim only
+    @PostMapping(path = "/admin/games/batch")
+    public ResponseEntity<List<GameBatchResultDto>> createGames(InputStream body) {
+        logger.info("=== POST /api/admin/games/batch ===");
+
+        try {
+            List<GameDto> gameDtos = readBatch(body);
+            if (gameDtos == null) {
+                logger.warn("Batch exceeds the limit of {} games", maxBatchSize);
+                return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+            }
+            logger.info("Upserting batch of {} games", gameDtos.size());
+
+            List<GameEntity> gameEntities = gameDtos.stream()
+                    .map(gameMapper::mapFrom)
+                    .toList();
+            return ResponseEntity.ok(gameService.createGameEntities(gameEntities));
+        } catch (Exception e) {
+            logger.error("Error upserting game batch: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Binds the array one game at a time and gives up (null) at item maxBatchSize + 1, so an
+    // oversized batch is refused before it is held in memory rather than after
+    private List<GameDto> readBatch(InputStream body) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of games");
+            }
+            List<GameDto> gameDtos = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IOException("Unterminated JSON array of games");
+                }
+                if (gameDtos.size() == maxBatchSize) {
+                    return null;
+                }
+                gameDtos.add(objectMapper.readValue(parser, GameDto.class));
+            }
+            return gameDtos;
+        }
+    }
+
+    // updated_at has microsecond precision, so milliseconds alone could miss an update
+    private static long toEpochMicros(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
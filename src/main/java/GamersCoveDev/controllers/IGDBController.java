@@ -1,177 +1,87 @@
 package GamersCoveDev.controllers;
 
-import GamersCoveDev.domains.dto.IGDBGameResponseDto;
-import GamersCoveDev.domains.entities.GameEntity;
-import GamersCoveDev.services.GameService;
+import GamersCoveDev.domains.dto.ImportJobDto;
+import GamersCoveDev.domains.dto.SyncStatusDto;
+import GamersCoveDev.services.igdb.IGDBDeltaSyncService;
+import GamersCoveDev.services.jobs.ImportJobService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
 
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.ZoneId;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.net.URI;
 
 @RestController
-@RequestMapping("/api")
+@RequestMapping("/api/admin")
 public class IGDBController {
 
     // ADDED: Logger
     private static final Logger logger = LoggerFactory.getLogger(IGDBController.class);
 
     // ADDED: Required dependencies
-    private final GameService gameService;
-    private final RestTemplate restTemplate;
-
-    // IGDB API Configuration
-    @Value("${igdb.client.id:your-client-id}")
-    private String igdbClientId;
-
-    @Value("${igdb.access.token:your-access-token}")
-    private String igdbAccessToken;
-
-    private static final String IGDB_GAMES_ENDPOINT = "https://api.igdb.com/v4/games";
+    private final ImportJobService importJobService;
+    private final IGDBDeltaSyncService deltaSyncService;
 
     // ADDED: Constructor with dependency injection
-    public IGDBController(GameService gameService, RestTemplate restTemplate) {
-        this.gameService = gameService;
-        this.restTemplate = restTemplate;
+    public IGDBController(ImportJobService importJobService, IGDBDeltaSyncService deltaSyncService) {
+        this.importJobService = importJobService;
+        this.deltaSyncService = deltaSyncService;
     }
 
-    // Main endpoint: Import first 5 games from IGDB and store them
+    // Main endpoint: queues an import of the first 5 top-rated IGDB games not stored yet
     @PostMapping(path = "/games/import-from-igdb")
-    public ResponseEntity<String> importGamesFromIGDB() {
-        logger.info("=== POST /api/games/import-from-igdb ===");
-        logger.info("Importing first 5 games from IGDB API...");
+    public ResponseEntity<ImportJobDto> importGamesFromIGDB() {
+        logger.info("=== POST /api/admin/games/import-from-igdb ===");
 
         try {
-            List<IGDBGameResponseDto> igdbGames = fetchFirst5GamesFromIGDB();
-
-            int savedCount = 0;
-            for (IGDBGameResponseDto igdbGame : igdbGames) {
-                try {
-                    // Check if game already exists to avoid duplicates
-                    String externalApiId = "igdb_" + igdbGame.getId();
-                    if (!gameAlreadyExists(externalApiId)) {
-                        GameEntity gameEntity = convertIGDBToGameEntity(igdbGame);
-                        gameService.createGameEntity(gameEntity);
-                        savedCount++;
-                        logger.info("Successfully imported game: {}", gameEntity.getTitle());
-                    } else {
-                        logger.info("Game already exists, skipping: {}", igdbGame.getName());
-                    }
-                } catch (Exception e) {
-                    logger.warn("Failed to import game {}: {}", igdbGame.getName(), e.getMessage());
-                }
-            }
-
-            String message = String.format("Successfully imported %d new games from IGDB", savedCount);
-            logger.info(message);
-            return ResponseEntity.ok(message);
-
-        } catch (Exception e) {
-            logger.error("Error importing games from IGDB: {}", e.getMessage());
-            return ResponseEntity.badRequest()
-                    .body("Failed to import games from IGDB: " + e.getMessage());
+            ImportJobDto job = importJobService.submitTopRated(5);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/admin/games/import-jobs/" + job.getId()))
+                    .body(job);
+        } catch (IllegalStateException e) {
+            logger.warn("Cannot queue IGDB import: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
         }
     }
 
-    // Private helper methods
-
-    private List<IGDBGameResponseDto> fetchFirst5GamesFromIGDB() {
-        logger.info("Fetching first 5 games from IGDB API...");
-
-        HttpHeaders headers = createIGDBHeaders();
-        // Query for first 5 popular games with all needed fields
-        String requestBody = "fields name,summary,cover.image_id,first_release_date,platforms.name,genres.name; " +
-                "where rating > 70; " +
-                "sort rating desc; " +
-                "limit 5;";
-
-        HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
+    // Queues a full catalog import job; follow it under /api/admin/games/import-jobs/{id}
+    @PostMapping(path = "/games/sync-from-igdb")
+    public ResponseEntity<ImportJobDto> syncCatalogFromIGDB() {
+        logger.info("=== POST /api/admin/games/sync-from-igdb ===");
 
         try {
-            ResponseEntity<IGDBGameResponseDto[]> response = restTemplate.exchange(
-                    IGDB_GAMES_ENDPOINT,
-                    HttpMethod.POST,
-                    entity,
-                    IGDBGameResponseDto[].class
-            );
-
-            IGDBGameResponseDto[] games = response.getBody();
-            logger.info("Successfully fetched {} games from IGDB", games != null ? games.length : 0);
-            return games != null ? Arrays.asList(games) : List.of();
-
-        } catch (Exception e) {
-            logger.error("Failed to fetch games from IGDB: {}", e.getMessage());
-            throw new RuntimeException("IGDB API request failed", e);
+            ImportJobDto job = importJobService.submit(0);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/admin/games/import-jobs/" + job.getId()))
+                    .body(job);
+        } catch (IllegalStateException e) {
+            logger.warn("Cannot queue IGDB sync: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
         }
     }
 
-    private HttpHeaders createIGDBHeaders() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Client-ID", igdbClientId);
-        headers.set("Authorization", "Bearer " + igdbAccessToken);
-        headers.set("Accept", "application/json");
-        return headers;
-    }
-
-    private GameEntity convertIGDBToGameEntity(IGDBGameResponseDto igdbGame) {
-        GameEntity gameEntity = new GameEntity();
-
-        // Set required fields
-        gameEntity.setExternalApiId("igdb_" + igdbGame.getId());
-        gameEntity.setTitle(igdbGame.getName());
-        gameEntity.setDescription(igdbGame.getSummary() != null ? igdbGame.getSummary() : "No description available");
+    // Starts applying the IGDB changes since the stored checkpoint; follow it on the status endpoint
+    @PostMapping(path = "/games/sync-from-igdb/delta")
+    public ResponseEntity<SyncStatusDto> syncChangesFromIGDB() {
+        logger.info("=== POST /api/admin/games/sync-from-igdb/delta ===");
 
-        // Set cover image URL using IGDB's image service
-        if (igdbGame.getCover() != null && igdbGame.getCover().getImageId() != null) {
-            String coverUrl = "https://images.igdb.com/igdb/image/upload/t_cover_big/" +
-                    igdbGame.getCover().getImageId() + ".jpg";
-            gameEntity.setCoverImageUrl(coverUrl);
-        } else {
-            gameEntity.setCoverImageUrl(""); // Default empty if no cover
-        }
-
-        // Convert Unix timestamp to LocalDate
-        if (igdbGame.getFirstReleaseDate() != null) {
-            LocalDate releaseDate = Instant.ofEpochSecond(igdbGame.getFirstReleaseDate())
-                    .atZone(ZoneId.systemDefault())
-                    .toLocalDate();
-            gameEntity.setReleaseDate(releaseDate);
-        }
-
-        // Convert platforms list to String array
-        if (igdbGame.getPlatforms() != null && !igdbGame.getPlatforms().isEmpty()) {
-            String[] platforms = igdbGame.getPlatforms().stream()
-                    .map(IGDBGameResponseDto.IGDBPlatform::getName)
-                    .toArray(String[]::new);
-            gameEntity.setPlatforms(platforms);
-        }
-
-        // Convert genres list to String array
-        if (igdbGame.getGenres() != null && !igdbGame.getGenres().isEmpty()) {
-            String[] genres = igdbGame.getGenres().stream()
-                    .map(IGDBGameResponseDto.IGDBGenre::getName)
-                    .toArray(String[]::new);
-            gameEntity.setGenres(genres);
+        try {
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/admin/games/sync-from-igdb/status"))
+                    .body(deltaSyncService.startDeltaSync());
+        } catch (IllegalStateException e) {
+            logger.warn("Cannot start IGDB delta sync: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(deltaSyncService.getStatus());
         }
-
-        return gameEntity;
     }
 
-    private boolean gameAlreadyExists(String externalApiId) {
-        Optional<GameEntity> existingGame = gameService.findByExternalApiId(externalApiId);
-        return existingGame.isPresent();
+    // Checkpoint lag and the last run's rows changed / duration
+    @GetMapping(path = "/games/sync-from-igdb/status")
+    public ResponseEntity<SyncStatusDto> getIGDBSyncStatus() {
+        return ResponseEntity.ok(deltaSyncService.getStatus());
     }
-}
\ No newline at end of file
+}
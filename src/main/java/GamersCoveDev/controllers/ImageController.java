@@ -0,0 +1,103 @@
+package GamersCoveDev.controllers;
+
+import GamersCoveDev.domains.entities.GameEntity;
+import GamersCoveDev.services.GameService;
+import GamersCoveDev.services.images.ImageCacheService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/img")
+public class ImageController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageController.class);
+
+    // Tomcat's sendfile request attributes (org.apache.coyote.Constants)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final GameService gameService;
+    private final ImageCacheService imageCacheService;
+    private final CacheControl cacheControl;
+
+    public ImageController(GameService gameService,
+                           ImageCacheService imageCacheService,
+                           @Value("${images.cache.max-age:7d}") Duration maxAge) {
+        this.gameService = gameService;
+        this.imageCacheService = imageCacheService;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    /**
+     * Resized cover for a game (size: thumb, card or cover). The ETag, set by
+     * checkNotModified, is the variant's cache key and changes with the game's cover URL.
+     * On Tomcat the file is handed to sendfile, so the bytes never pass through the heap.
+     */
+    @GetMapping(path = "/games/{gameId}/{size}")
+    public ResponseEntity<Resource> getGameImage(@PathVariable("gameId") Long gameId,
+                                                 @PathVariable("size") String size,
+                                                 WebRequest webRequest,
+                                                 HttpServletRequest request) {
+        logger.debug("=== GET /img/games/{}/{} ===", gameId, size);
+
+        ImageCacheService.Size imageSize;
+        try {
+            imageSize = ImageCacheService.Size.fromPath(size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Optional<GameEntity> game = gameService.findById(gameId);
+        if (game.isEmpty() || game.get().getCoverImageUrl() == null || game.get().getCoverImageUrl().isBlank()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        ImageCacheService.CachedImage image;
+        try {
+            image = imageCacheService.get(game.get().getCoverImageUrl(), imageSize);
+        } catch (IllegalArgumentException e) {
+            // Not a cover this server will fetch
+            logger.warn("Refusing cover for game {}: {}", gameId, e.getMessage());
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            logger.error("Error loading cover for game {}: {}", gameId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+        }
+
+        if (webRequest.checkNotModified(image.hash())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .contentType(MediaType.IMAGE_JPEG)
+                .contentLength(image.length());
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // Tomcat writes the file itself once the headers are committed
+            request.setAttribute(SENDFILE_FILENAME, image.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, image.length());
+            return response.build();
+        }
+        return response.body(new FileSystemResource(image.path()));
+    }
+}
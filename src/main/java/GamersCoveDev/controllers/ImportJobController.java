@@ -0,0 +1,83 @@
+package GamersCoveDev.controllers;
+
+import GamersCoveDev.domains.dto.ImportJobDto;
+import GamersCoveDev.services.jobs.ImportJobService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.net.URI;
+import java.util.List;
+import java.util.function.Supplier;
+
+@RestController
+@RequestMapping("/api/admin")
+public class ImportJobController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportJobController.class);
+
+    private final ImportJobService importJobService;
+
+    public ImportJobController(ImportJobService importJobService) {
+        this.importJobService = importJobService;
+    }
+
+    // Starts a full IGDB catalog import in the background; startOffset resumes an earlier run
+    @PostMapping(path = "/games/import-jobs")
+    public ResponseEntity<ImportJobDto> submitImportJob(@RequestParam(defaultValue = "0") int startOffset) {
+        logger.info("=== POST /api/admin/games/import-jobs (startOffset={}) ===", startOffset);
+        return accepted(() -> importJobService.submit(startOffset));
+    }
+
+    @GetMapping(path = "/games/import-jobs")
+    public ResponseEntity<List<ImportJobDto>> listImportJobs() {
+        return ResponseEntity.ok(importJobService.list());
+    }
+
+    @GetMapping(path = "/games/import-jobs/{jobId}")
+    public ResponseEntity<ImportJobDto> getImportJob(@PathVariable("jobId") String jobId) {
+        return ResponseEntity.of(importJobService.find(jobId));
+    }
+
+    // Server-sent "progress" events until the job finishes
+    @GetMapping(path = "/games/import-jobs/{jobId}/events")
+    public ResponseEntity<SseEmitter> streamImportJob(@PathVariable("jobId") String jobId) {
+        return ResponseEntity.of(importJobService.subscribe(jobId));
+    }
+
+    @PostMapping(path = "/games/import-jobs/{jobId}/cancel")
+    public ResponseEntity<ImportJobDto> cancelImportJob(@PathVariable("jobId") String jobId) {
+        logger.info("=== POST /api/admin/games/import-jobs/{}/cancel ===", jobId);
+        return importJobService.cancel(jobId)
+                .map(job -> ResponseEntity.status(HttpStatus.ACCEPTED).body(job))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping(path = "/games/import-jobs/{jobId}/resume")
+    public ResponseEntity<ImportJobDto> resumeImportJob(@PathVariable("jobId") String jobId) {
+        logger.info("=== POST /api/admin/games/import-jobs/{}/resume ===", jobId);
+        if (importJobService.find(jobId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return accepted(() -> importJobService.resume(jobId).orElseThrow());
+    }
+
+    // 202 with the new job and its URL; 400 for a bad request, 429 when the job queue is full
+    private static ResponseEntity<ImportJobDto> accepted(Supplier<ImportJobDto> submit) {
+        try {
+            ImportJobDto job = submit.get();
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/admin/games/import-jobs/" + job.getId()))
+                    .body(job);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid import job request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            logger.warn("Import job queue is full");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+    }
+}
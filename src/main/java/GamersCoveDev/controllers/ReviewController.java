@@ -1,19 +1,26 @@
 package GamersCoveDev.controllers;
 
+import GamersCoveDev.domains.dto.PageDto;
+import GamersCoveDev.domains.dto.RatingStatsDto;
 import GamersCoveDev.domains.dto.ReviewDto;
+import GamersCoveDev.domains.dto.ReviewSummaryDto;
 import GamersCoveDev.domains.entities.ReviewEntity;
 import GamersCoveDev.mappers.Mapper;
+import GamersCoveDev.repositories.ReviewListVersion;
 import GamersCoveDev.services.ReviewService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api")
@@ -23,10 +30,13 @@ public class ReviewController {
 
     private final ReviewService reviewService;
     private final Mapper<ReviewEntity, ReviewDto> reviewMapper;
+    private final int maxSummaryIds;
 
-    public ReviewController(ReviewService reviewService, Mapper<ReviewEntity, ReviewDto> reviewMapper) {
+    public ReviewController(ReviewService reviewService, Mapper<ReviewEntity, ReviewDto> reviewMapper,
+                            @Value("${reviews.summaries.max-ids:100}") int maxSummaryIds) {
         this.reviewService = reviewService;
         this.reviewMapper = reviewMapper;
+        this.maxSummaryIds = maxSummaryIds;
     }
 
     // Create a new review
@@ -76,40 +86,64 @@ public class ReviewController {
         }
     }
 
-    // Get all reviews for a specific game
+    // Get one page of reviews for a specific game (?sort=newest|rating|helpful, ?cursor=, ?limit=)
     @GetMapping(path = "/reviews/games/{gameId}")
-    public ResponseEntity<List<ReviewDto>> getReviewsByGameId(@PathVariable("gameId") Long gameId) {
+    public ResponseEntity<PageDto<ReviewDto>> getReviewsByGameId(
+            @PathVariable("gameId") Long gameId,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
         logger.info("=== GET /api/reviews/games/{} ===", gameId);
-        logger.info("Fetching all reviews for game ID: {}", gameId);
+        logger.info("Fetching reviews for game ID: {}, sort: {}, cursor: {}", gameId, sort, cursor);
 
         try {
-            List<ReviewEntity> reviews = reviewService.findByGameId(gameId);
-            List<ReviewDto> reviewDtos = reviews.stream()
-                    .map(reviewMapper::mapTo)
-                    .collect(Collectors.toList());
+            // Revalidate against count + max(updated_at) before loading the reviews themselves
+            ReviewListVersion version = reviewService.getReviewListVersion(gameId);
+            if (version.lastModified() != null) {
+                Instant lastModified = version.lastModified();
+                String etag = gameId + "-" + version.count() + "-" + toEpochMicros(lastModified);
+                if (request.checkNotModified(etag, lastModified.toEpochMilli())) {
+                    logger.info("Reviews for game ID {} not modified", gameId);
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).build();
+                }
+            }
 
-            logger.info("Found {} reviews for game ID: {}", reviewDtos.size(), gameId);
-            return ResponseEntity.ok(reviewDtos);
+            PageDto<ReviewDto> reviewDtos = reviewService.findPageByGameId(gameId, sort, cursor, limit)
+                    .map(reviewMapper::mapTo);
+
+            logger.info("Found {} reviews for game ID: {}, next cursor: {}",
+                    reviewDtos.getItems().size(), gameId, reviewDtos.getNextCursor());
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(reviewDtos);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid review page request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.error("Error fetching reviews by game ID", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
-    // Get all reviews made by a specific user
+    // Get one page of reviews made by a specific user (same paging parameters as above)
     @GetMapping(path = "/reviews/users/{userId}")
-    public ResponseEntity<List<ReviewDto>> getReviewsByUserId(@PathVariable("userId") Long userId) {
+    public ResponseEntity<PageDto<ReviewDto>> getReviewsByUserId(
+            @PathVariable("userId") Long userId,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
         logger.info("=== GET /api/reviews/users/{} ===", userId);
-        logger.info("Fetching all reviews by user ID: {}", userId);
+        logger.info("Fetching reviews by user ID: {}, sort: {}, cursor: {}", userId, sort, cursor);
 
         try {
-            List<ReviewEntity> reviews = reviewService.findByUserId(userId);
-            List<ReviewDto> reviewDtos = reviews.stream()
-                    .map(reviewMapper::mapTo)
-                    .collect(Collectors.toList());
+            PageDto<ReviewDto> reviewDtos = reviewService.findPageByUserId(userId, sort, cursor, limit)
+                    .map(reviewMapper::mapTo);
 
-            logger.info("Found {} reviews by user ID: {}", reviewDtos.size(), userId);
+            logger.info("Found {} reviews by user ID: {}, next cursor: {}",
+                    reviewDtos.getItems().size(), userId, reviewDtos.getNextCursor());
             return ResponseEntity.ok(reviewDtos);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid review page request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             logger.error("Error fetching reviews by user ID", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -186,4 +220,70 @@ public class ReviewController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-}
\ No newline at end of file
+
+    // Rating summary and top review for many games at once (homepage and recommendation cards)
+    @PostMapping(path = "/reviews/summaries")
+    public ResponseEntity<List<ReviewSummaryDto>> getReviewSummaries(@RequestBody List<Long> gameIds) {
+        logger.info("=== POST /api/reviews/summaries ===");
+        logger.info("Summarising reviews for {} games", gameIds.size());
+
+        if (gameIds.size() > maxSummaryIds) {
+            logger.warn("Summary request for {} games exceeds the limit of {}", gameIds.size(), maxSummaryIds);
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+
+        try {
+            List<ReviewSummaryDto> summaries = reviewService.getSummaries(gameIds);
+            logger.info("Found summaries for {} games", summaries.size());
+            return ResponseEntity.ok(summaries);
+        } catch (Exception e) {
+            logger.error("Error building review summaries", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // A game's highest-rated reviews, best first (?limit=, capped at reviews.top.size)
+    @GetMapping(path = "/reviews/games/{gameId}/top")
+    public ResponseEntity<List<ReviewDto>> getTopReviewsForGame(@PathVariable("gameId") Long gameId,
+                                                                @RequestParam(required = false) Integer limit) {
+        logger.info("=== GET /api/reviews/games/{}/top ===", gameId);
+
+        try {
+            List<ReviewDto> reviewDtos = reviewService.getTopReviews(gameId, limit).stream()
+                    .map(reviewMapper::mapTo)
+                    .toList();
+            logger.info("Found {} top reviews for game ID: {}", reviewDtos.size(), gameId);
+            return ResponseEntity.ok(reviewDtos);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid top reviews request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("Error fetching top reviews", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Star histogram, median and recent-ratings count for a game
+    @GetMapping(path = "/reviews/games/{gameId}/stats")
+    public ResponseEntity<RatingStatsDto> getRatingStatsForGame(@PathVariable("gameId") Long gameId) {
+        logger.info("=== GET /api/reviews/games/{}/stats ===", gameId);
+
+        try {
+            Optional<RatingStatsDto> stats = reviewService.getRatingStats(gameId);
+            if (stats.isEmpty()) {
+                logger.warn("Game not found with ID: {}", gameId);
+                return ResponseEntity.notFound().build();
+            }
+            logger.info("Rating stats for game ID {}: {} ratings", gameId, stats.get().getTotalRatings());
+            return ResponseEntity.ok(stats.get());
+        } catch (Exception e) {
+            logger.error("Error reading rating stats", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // updated_at has microsecond precision, so milliseconds alone could miss an update
+    private static long toEpochMicros(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,87 @@
+package GamersCoveDev.controllers;
+
+import GamersCoveDev.domains.entities.UserEntity;
+import GamersCoveDev.security.FirebaseUserDetails;
+import GamersCoveDev.services.UserService;
+import GamersCoveDev.services.reviews.ReviewVoteService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongPredicate;
+
+// Likes and helpful votes on reviews; one vote per user and review, repeats are no-ops
+@RestController
+@RequestMapping("/api/reviews")
+public class ReviewVoteController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewVoteController.class);
+
+    private final ReviewVoteService voteService;
+    private final UserService userService;
+
+    public ReviewVoteController(ReviewVoteService voteService, UserService userService) {
+        this.voteService = voteService;
+        this.userService = userService;
+    }
+
+    @PutMapping(path = "/{id}/like")
+    public ResponseEntity<Void> like(@PathVariable("id") Long id, @AuthenticationPrincipal FirebaseUserDetails principal) {
+        logger.info("=== PUT /api/reviews/{}/like ===", id);
+        return vote(id, principal, userId -> voteService.like(id, userId));
+    }
+
+    @DeleteMapping(path = "/{id}/like")
+    public ResponseEntity<Void> unlike(@PathVariable("id") Long id, @AuthenticationPrincipal FirebaseUserDetails principal) {
+        logger.info("=== DELETE /api/reviews/{}/like ===", id);
+        return vote(id, principal, userId -> voteService.unlike(id, userId));
+    }
+
+    // Body: {"helpful": true} or {"helpful": false}; voting the other way flips the vote
+    @PutMapping(path = "/{id}/helpful")
+    public ResponseEntity<Void> voteHelpful(@PathVariable("id") Long id,
+                                            @RequestBody Map<String, Boolean> request,
+                                            @AuthenticationPrincipal FirebaseUserDetails principal) {
+        logger.info("=== PUT /api/reviews/{}/helpful ===", id);
+        Boolean helpful = request.get("helpful");
+        if (helpful == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return vote(id, principal, userId -> voteService.voteHelpful(id, userId, helpful));
+    }
+
+    @DeleteMapping(path = "/{id}/helpful")
+    public ResponseEntity<Void> removeHelpfulVote(@PathVariable("id") Long id,
+                                                  @AuthenticationPrincipal FirebaseUserDetails principal) {
+        logger.info("=== DELETE /api/reviews/{}/helpful ===", id);
+        return vote(id, principal, userId -> voteService.removeHelpfulVote(id, userId));
+    }
+
+    // The principal is the FirebaseUserDetails set by FirebaseAuthenticationFilter; null when anonymous
+    private ResponseEntity<Void> vote(Long reviewId, FirebaseUserDetails principal, LongPredicate action) {
+        try {
+            String firebaseUid = principal != null ? principal.getUid() : null;
+            Optional<UserEntity> user = firebaseUid != null ? userService.findByFirebaseUid(firebaseUid) : Optional.empty();
+            if (user.isEmpty()) {
+                logger.warn("User not found with Firebase UID: {}", firebaseUid);
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+            boolean changed = action.test(user.get().getId());
+            logger.info("Vote on review {} by user {} {}", reviewId, user.get().getId(), changed ? "recorded" : "unchanged");
+            return ResponseEntity.noContent().build();
+        } catch (DataIntegrityViolationException e) {
+            // The vote row references a review that doesn't exist
+            logger.warn("Review not found with ID: {}", reviewId);
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            logger.error("Error recording vote on review {}", reviewId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package GamersCoveDev.domains.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of POST /api/admin/games/batch, in request order.
+ * Status is CREATED, UPDATED, UNCHANGED (the stored row already held these values) or FAILED;
+ * error is only set for FAILED. retryable marks a FAILED item whose chunk hit a transient
+ * database error (lock timeout, deadlock, lost connection), so sending it again can succeed;
+ * invalid items and data errors are not retryable.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GameBatchResultDto {
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String UNCHANGED = "UNCHANGED";
+    public static final String FAILED = "FAILED";
+
+    private int index;
+    private String externalApiId;
+    private Long id;
+    private String status;
+    private String error;
+    private boolean retryable;
+}
@@ -0,0 +1,24 @@
+package GamersCoveDev.domains.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * The columns a catalog card needs. Listings with {@code ?view=card} select only these,
+ * so the description and the rest of the games row never leave the database.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GameCardDto {
+    private Long id;
+    private String title;
+    private String coverImageUrl;
+    private LocalDate releaseDate;
+    private String[] genres;
+}
@@ -0,0 +1,19 @@
+package GamersCoveDev.domains.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GameFacetsDto {
+    private long total;
+    private Map<String, Long> genres;
+    private Map<String, Long> platforms;
+    private Map<String, Long> releaseYears;
+}
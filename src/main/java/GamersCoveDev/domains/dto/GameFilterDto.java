@@ -0,0 +1,26 @@
+package GamersCoveDev.domains.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Optional catalog filters from GET /api/games. Genre and platform match
+ * the stored names exactly, as returned in game payloads.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GameFilterDto {
+    private String genre;
+    private String platform;
+    private LocalDate releasedAfter;
+
+    public boolean hasCriteria() {
+        return genre != null || platform != null || releasedAfter != null;
+    }
+}
@@ -0,0 +1,15 @@
+package GamersCoveDev.domains.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GameSuggestionDto {
+    private Long id;
+    private String title;
+}
@@ -50,6 +50,10 @@ public class IGDBGameResponseDto {
     @JsonProperty("genres")
     private List<IGDBGenre> genres;
 
+    // Unix seconds of the last change on IGDB's side; drives the delta sync
+    @JsonProperty("updated_at")
+    private Long updatedAt;
+
     // Getters and setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -72,5 +76,8 @@ public class IGDBGameResponseDto {
     public List<IGDBGenre> getGenres() { return genres; }
     public void setGenres(List<IGDBGenre> genres) { this.genres = genres; }
 
+    public Long getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Long updatedAt) { this.updatedAt = updatedAt; }
+
 
 }
@@ -0,0 +1,21 @@
+package GamersCoveDev.domains.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Totals for one full-catalog IGDB sync run
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class IGDBSyncResultDto {
+    private long pages;
+    private long fetched;
+    private long created;
+    private long updated;
+    private long unchanged;
+    private long failed;
+    private long durationMs;
+}
@@ -0,0 +1,36 @@
+package GamersCoveDev.domains.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Snapshot of an import job. {@code committedOffset} is the resume point: every page
+ * before it has been written, so a resumed job starts there.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportJobDto {
+    private String id;
+    // CATALOG or TOP_RATED
+    private String kind;
+    private String status;
+    private int startOffset;
+    private int committedOffset;
+    private long pages;
+    private long fetched;
+    private long created;
+    private long updated;
+    private long unchanged;
+    private long failed;
+    private double gamesPerSecond;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+}
@@ -0,0 +1,29 @@
+package GamersCoveDev.domains.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a cursor-paginated listing. {@code nextCursor} is null on the last page,
+ * otherwise it is passed back as {@code ?cursor=} to fetch the following page.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PageDto<T> {
+    private List<T> items;
+    private String nextCursor;
+
+    public <R> PageDto<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = items.stream()
+                .<R>map(mapper)
+                .toList();
+        return new PageDto<>(mapped, nextCursor);
+    }
+}
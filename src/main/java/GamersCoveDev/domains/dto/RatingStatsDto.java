@@ -0,0 +1,23 @@
+package GamersCoveDev.domains.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Rating distribution of one game, as returned by GET /api/reviews/games/{gameId}/stats
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RatingStatsDto {
+    private Long gameId;
+    private long totalRatings;
+    private double averageRating;
+    private double medianRating;
+    // histogram[n - 1] is the number of ratings of n, for n = 1..10
+    private int[] histogram;
+    // Ratings created within the last recentDays days
+    private long recentRatings;
+    private int recentDays;
+}
@@ -17,5 +17,6 @@ public class ReviewDto {
     private Integer rating;
     private String content;
     private LocalDateTime createdAt;
+    private Integer helpfulCount;
 
 }
@@ -0,0 +1,25 @@
+package GamersCoveDev.domains.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Rating summary and top review of one game, as returned by POST /api/reviews/summaries.
+ * The top review is the highest rated public, non-spoiler review, newest first; its fields
+ * are null when the game has no such review, and its content is cut to a snippet.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewSummaryDto {
+    private Long gameId;
+    private double averageRating;
+    private long totalRatings;
+    private Long topReviewId;
+    private Long topReviewUserId;
+    private Integer topReviewRating;
+    private String topReviewSnippet;
+}
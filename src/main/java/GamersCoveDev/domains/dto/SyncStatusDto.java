@@ -0,0 +1,27 @@
+package GamersCoveDev.domains.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// Checkpoint and last-run stats of a delta sync, as shown by the status endpoint
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SyncStatusDto {
+    private String source;
+    private boolean running;
+    // Source updated_at of the newest applied change, and how far behind now that is
+    private Instant checkpoint;
+    private Long lagSeconds;
+    private Instant lastRunStartedAt;
+    private Instant lastRunFinishedAt;
+    private Long lastRunDurationMs;
+    private Long lastRunRowsChanged;
+    private String lastRunStatus;
+    private String lastError;
+}
@@ -5,9 +5,15 @@ import jakarta.persistence.*;
 import lombok.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Generated;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.generator.EventType;
+import org.hibernate.type.SqlTypes;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 @Data
 @Entity
@@ -18,9 +24,14 @@ import java.util.ArrayList;
 @Getter @Setter
 public class GameEntity {
 
+    // Must match the game_sequence INCREMENT (V4 migration) for Hibernate's pooled optimizer
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    private static final String[] NONE = new String[0];
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_sequence")
-    @SequenceGenerator(name = "game_sequence", sequenceName = "game_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "game_sequence", sequenceName = "game_sequence", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotNull
@@ -47,11 +58,30 @@ public class GameEntity {
     @Column(name = "release_date")
     private LocalDate releaseDate;
 
-    @Column(name = "platforms", columnDefinition = "TEXT")
-    private String platforms;
+    // Postgres TEXT[] columns with GIN indexes (see V3 migration)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "platforms", columnDefinition = "text[]")
+    private String[] platforms;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "genres", columnDefinition = "text[]")
+    private String[] genres;
+
+    // Maintained by the update_games_updated_at trigger; re-read after every write
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private Instant updatedAt;
 
-    @Column(name = "genres", columnDefinition = "TEXT")
-    private String genres;
+    // Rating totals maintained by review writes (GameRepository.applyRating); never written through JPA
+    @Column(name = "rating_sum", insertable = false, updatable = false)
+    private Long ratingSum;
+
+    @Column(name = "total_ratings", insertable = false, updatable = false)
+    private Integer totalRatings;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "rating_histogram", columnDefinition = "int[]", insertable = false, updatable = false)
+    private int[] ratingHistogram;
 
     // JPA lifecycle callback to sync name with title before persisting
     @PrePersist
@@ -62,35 +92,34 @@ public class GameEntity {
         }
     }
 
+    // Returns the mapped array itself (or a shared empty one); callers must not modify it
     public String[] getPlatforms() {
-        if (platforms == null || platforms.trim().isEmpty()) {
-            return new String[0];
-        }
-        return platforms.split(",");
+        return platforms == null ? NONE : platforms;
     }
 
     public void setPlatforms(String[] platforms) {
-        if (platforms == null || platforms.length == 0) {
-            this.platforms = null;
-        } else {
-            this.platforms = String.join(",", platforms);
-        }
+        this.platforms = cleanValues(platforms);
     }
 
     // Utility methods for genres array
     public String[] getGenres() {
-        if (genres == null || genres.trim().isEmpty()) {
-            return new String[0];
-        }
-        return genres.split(",");
+        return genres == null ? NONE : genres;
     }
 
     public void setGenres(String[] genres) {
-        if (genres == null || genres.length == 0) {
-            this.genres = null;
-        } else {
-            this.genres = String.join(",", genres);
+        this.genres = cleanValues(genres);
+    }
+
+    // Trims values and drops blanks; empty arrays are stored as NULL
+    private static String[] cleanValues(String[] values) {
+        if (values == null || values.length == 0) {
+            return null;
         }
+        String[] cleaned = Arrays.stream(values)
+                .filter(v -> v != null && !v.isBlank())
+                .map(String::trim)
+                .toArray(String[]::new);
+        return cleaned.length == 0 ? null : cleaned;
     }
 
     // Constructor with required fields
@@ -120,7 +149,7 @@ public class GameEntity {
         String[] platforms = getPlatforms();
         if (platforms.length == 0) return false;
         for (String p : platforms) {
-            if (platform.equalsIgnoreCase(p.trim())) {
+            if (platform.equalsIgnoreCase(p)) {
                 return true;
             }
         }
@@ -131,7 +160,7 @@ public class GameEntity {
         String[] genres = getGenres();
         if (genres.length == 0) return false;
         for (String g : genres) {
-            if (genre.equalsIgnoreCase(g.trim())) {
+            if (genre.equalsIgnoreCase(g)) {
                 return true;
             }
         }
@@ -174,8 +203,8 @@ public class GameEntity {
 
         List<String> platformList = new ArrayList<>();
         for (String p : currentPlatforms) {
-            if (!platform.equalsIgnoreCase(p.trim())) {
-                platformList.add(p.trim());
+            if (!platform.equalsIgnoreCase(p)) {
+                platformList.add(p);
             }
         }
         setPlatforms(platformList.toArray(new String[0]));
@@ -187,8 +216,8 @@ public class GameEntity {
 
         List<String> genreList = new ArrayList<>();
         for (String g : currentGenres) {
-            if (!genre.equalsIgnoreCase(g.trim())) {
-                genreList.add(g.trim());
+            if (!genre.equalsIgnoreCase(g)) {
+                genreList.add(g);
             }
         }
         setGenres(genreList.toArray(new String[0]));
@@ -10,6 +10,10 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
+
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 @Data
@@ -43,9 +47,20 @@ public class ReviewEntity {
     @Column(name = "content", nullable = false, columnDefinition = "TEXT")
     private String content;
 
-    @Column(name = "created_at", columnDefinition = "TIMESTAMP DEFAULT now()")
+    // Set once on insert; never part of an UPDATE
+    @Column(name = "created_at", columnDefinition = "TIMESTAMP DEFAULT now()", updatable = false)
     @org.hibernate.annotations.CreationTimestamp
     private LocalDateTime createdAt;
+
+    // Maintained by the update_reviews_updated_at trigger; re-read after every write
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private Instant updatedAt;
+
+    // Read-only here; sorts the HELPFUL review listing
+    @Column(name = "is_helpful_count", insertable = false, updatable = false)
+    private Integer helpfulCount;
+
     public ReviewEntity(Long userId, Long gameId, Integer rating, String content) {
         this.userId = userId;
         this.gameId = gameId;
@@ -0,0 +1,60 @@
+package GamersCoveDev.domains.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// Delta cursor and last-run stats for one external catalog source (see V5 migration)
+@Data
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "sync_checkpoints")
+public class SyncCheckpointEntity {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_SUCCEEDED = "SUCCEEDED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    @Id
+    @Column(name = "source", length = 50)
+    private String source;
+
+    // Source-side updated_at (epoch seconds) of the newest record already applied
+    @Column(name = "last_updated_at", nullable = false)
+    private long lastUpdatedAt;
+
+    // Largest source id applied at lastUpdatedAt, to resume inside a run of equal timestamps
+    @Column(name = "last_external_id", nullable = false)
+    private long lastExternalId;
+
+    @Column(name = "last_run_started_at")
+    private Instant lastRunStartedAt;
+
+    @Column(name = "last_run_finished_at")
+    private Instant lastRunFinishedAt;
+
+    @Column(name = "last_run_duration_ms")
+    private Long lastRunDurationMs;
+
+    @Column(name = "last_run_rows_changed")
+    private Long lastRunRowsChanged;
+
+    @Column(name = "last_run_status", length = 20)
+    private String lastRunStatus;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    public SyncCheckpointEntity(String source) {
+        this.source = source;
+    }
+}
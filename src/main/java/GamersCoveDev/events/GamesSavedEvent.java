@@ -0,0 +1,12 @@
+package GamersCoveDev.events;
+
+import GamersCoveDev.domains.entities.GameEntity;
+
+import java.util.List;
+
+/**
+ * Published by GameServiceImpl whenever games are inserted or updated.
+ * Listeners that keep in-memory views of the catalog react to it after the write commits.
+ */
+public record GamesSavedEvent(List<GameEntity> games) {
+}
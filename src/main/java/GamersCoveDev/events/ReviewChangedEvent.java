@@ -0,0 +1,23 @@
+package GamersCoveDev.events;
+
+import GamersCoveDev.domains.entities.ReviewEntity;
+
+/**
+ * Published by ReviewServiceImpl whenever a review is created, updated or deleted.
+ * previousGameId is the game the review belonged to before an update (null on create),
+ * so listeners can move it out of that game's views.
+ */
+public record ReviewChangedEvent(ReviewEntity review, Long previousGameId, boolean deleted) {
+
+    public static ReviewChangedEvent created(ReviewEntity review) {
+        return new ReviewChangedEvent(review, null, false);
+    }
+
+    public static ReviewChangedEvent updated(ReviewEntity review, Long previousGameId) {
+        return new ReviewChangedEvent(review, previousGameId, false);
+    }
+
+    public static ReviewChangedEvent deleted(ReviewEntity review) {
+        return new ReviewChangedEvent(review, review.getGameId(), true);
+    }
+}
@@ -17,6 +17,7 @@ public class ReviewMapperImpl implements Mapper<ReviewEntity, ReviewDto> {
                 .rating(reviewEntity.getRating())
                 .content(reviewEntity.getContent())
                 .createdAt(reviewEntity.getCreatedAt())
+                .helpfulCount(reviewEntity.getHelpfulCount())
                 .build();
     }
 
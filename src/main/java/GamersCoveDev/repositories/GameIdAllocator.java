@@ -0,0 +1,30 @@
+package GamersCoveDev.repositories;
+
+import GamersCoveDev.domains.entities.GameEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands out game ids for native inserts using the same block scheme as Hibernate's
+ * pooled optimizer on game_sequence: each nextval H reserves (H - allocationSize, H].
+ * Blocks never overlap, so native and JPA inserts can share the sequence safely.
+ */
+@Component
+public class GameIdAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private long next = 1;
+    private long hi = 0;
+
+    public GameIdAllocator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public synchronized long nextId() {
+        if (next > hi) {
+            hi = jdbcTemplate.queryForObject("SELECT nextval('game_sequence')", Long.class);
+            next = hi - GameEntity.ID_ALLOCATION_SIZE + 1;
+        }
+        return next++;
+    }
+}
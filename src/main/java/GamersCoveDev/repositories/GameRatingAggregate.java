@@ -0,0 +1,40 @@
+package GamersCoveDev.repositories;
+
+// A game's running rating totals (games.rating_sum / total_ratings / rating_histogram),
+// maintained on every review write. histogram[n - 1] counts the ratings of n.
+public record GameRatingAggregate(long ratingSum, long ratingCount, int[] histogram) {
+
+    public static final int MAX_RATING = 10;
+
+    // Rounded to one decimal place; 0.0 when the game has no ratings
+    public double average() {
+        if (ratingCount == 0) {
+            return 0.0;
+        }
+        return Math.round((double) ratingSum / ratingCount * 10.0) / 10.0;
+    }
+
+    // Middle rating, or the mean of the two middle ratings for an even count; 0.0 when there are none
+    public double median() {
+        long total = 0;
+        for (int count : histogram) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0.0;
+        }
+        return (ratingAtRank((total - 1) / 2) + ratingAtRank(total / 2)) / 2.0;
+    }
+
+    // Rating of the rank-th smallest review (0-based), walking the cumulative counts
+    private int ratingAtRank(long rank) {
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (rank < seen) {
+                return i + 1;
+            }
+        }
+        return histogram.length;
+    }
+}
@@ -1,13 +1,24 @@
 package GamersCoveDev.repositories;
 
+import GamersCoveDev.domains.dto.GameCardDto;
 import GamersCoveDev.domains.entities.GameEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface GameRepository extends CrudRepository<GameEntity, Long> {
+public interface GameRepository extends CrudRepository<GameEntity, Long>, GameRepositoryCustom {
 
     // Match both ReviewTool and RecommendationTool
     Optional<GameEntity> findByTitleIgnoreCase(String title);
@@ -15,8 +26,78 @@ public interface GameRepository extends CrudRepository<GameEntity, Long> {
     Optional<GameEntity> findByExternalApiId(String externalApiId);
     Optional<GameEntity> findByTitle(String title);
     List<GameEntity> findByIdIn(List<Long> ids);
+
+    // Which of these external ids already exist, in one query; callers keep the list page-sized
+    @Query("select g.externalApiId from GameEntity g where g.externalApiId in :externalApiIds")
+    Set<String> findExternalApiIdsIn(@Param("externalApiIds") Collection<String> externalApiIds);
     List<GameEntity> findAll(); // already inherited but declared for clarity
-    
+
     // Search games by title containing the search term (case-insensitive)
     List<GameEntity> findByTitleContainingIgnoreCase(String searchTerm);
+
+    // Keyset pagination: next rows after the last seen id, never the whole table
+    List<GameEntity> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    // Same keyset page as above, but only the card columns
+    @Query("select new GamersCoveDev.domains.dto.GameCardDto(g.id, g.title, g.coverImageUrl, g.releaseDate, g.genres) " +
+            "from GameEntity g where g.id > :afterId order by g.id")
+    List<GameCardDto> findCardsByIdGreaterThan(@Param("afterId") Long afterId, Limit limit);
+
+    // Forward-only cursor over the whole catalog; consume inside a read-only transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select g from GameEntity g order by g.id")
+    Stream<GameEntity> streamAllOrderedById();
+
+    // Rating totals without loading the entity, so cached GameEntity copies can't serve stale values
+    @Query("select new GamersCoveDev.repositories.GameRatingAggregate(" +
+            "g.ratingSum, cast(g.totalRatings as Long), g.ratingHistogram) " +
+            "from GameEntity g where g.id = :gameId")
+    Optional<GameRatingAggregate> findRatingAggregate(@Param("gameId") Long gameId);
+
+    // Adds (countDelta = 1) or removes (countDelta = -1) one rating, in the same transaction as the
+    // review write; the row lock serialises concurrent changes to the same game
+    @Modifying
+    @Query(value = "UPDATE games SET " +
+            "rating_sum = rating_sum + :rating * :countDelta, " +
+            "total_ratings = total_ratings + :countDelta, " +
+            "rating_histogram[:rating] = rating_histogram[:rating] + :countDelta, " +
+            "average_rating = CASE WHEN total_ratings + :countDelta > 0 " +
+            "THEN round(CAST(rating_sum + :rating * :countDelta AS numeric) / (total_ratings + :countDelta), 2) " +
+            "ELSE 0 END " +
+            "WHERE id = :gameId", nativeQuery = true)
+    int applyRating(@Param("gameId") Long gameId,
+                    @Param("rating") int rating,
+                    @Param("countDelta") int countDelta);
+
+    // Locks the next batch of game rows in id order until the repair transaction ends, so applyRating
+    // for those games waits behind the recompute instead of racing it
+    @Query(value = "SELECT id FROM games WHERE id > :afterId ORDER BY id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Long> lockIdsAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    // Recomputes the given games' totals and histogram from reviews in one GROUP BY, touching only rows
+    // that drifted; lock them first with lockIdsAfter in the same transaction
+    @Modifying
+    @Query(value = "UPDATE games g SET " +
+            "rating_sum = a.rating_sum, " +
+            "total_ratings = a.total_ratings, " +
+            "rating_histogram = a.rating_histogram, " +
+            "average_rating = CASE WHEN a.total_ratings > 0 " +
+            "THEN round(CAST(a.rating_sum AS numeric) / a.total_ratings, 2) ELSE 0 END " +
+            "FROM (SELECT g2.id, COALESCE(sum(r.rating), 0) AS rating_sum, count(r.id) AS total_ratings, " +
+            "      CAST(ARRAY[count(r.id) FILTER (WHERE r.rating = 1), count(r.id) FILTER (WHERE r.rating = 2), " +
+            "      count(r.id) FILTER (WHERE r.rating = 3), count(r.id) FILTER (WHERE r.rating = 4), " +
+            "      count(r.id) FILTER (WHERE r.rating = 5), count(r.id) FILTER (WHERE r.rating = 6), " +
+            "      count(r.id) FILTER (WHERE r.rating = 7), count(r.id) FILTER (WHERE r.rating = 8), " +
+            "      count(r.id) FILTER (WHERE r.rating = 9), count(r.id) FILTER (WHERE r.rating = 10)] AS int[]) " +
+            "      AS rating_histogram " +
+            "      FROM games g2 LEFT JOIN reviews r ON r.game_id = g2.id " +
+            "      WHERE g2.id IN (:gameIds) " +
+            "      GROUP BY g2.id) a " +
+            "WHERE g.id = a.id " +
+            "AND (g.rating_sum, g.total_ratings, g.rating_histogram) " +
+            "IS DISTINCT FROM (a.rating_sum, a.total_ratings, a.rating_histogram)", nativeQuery = true)
+    int repairRatingAggregates(@Param("gameIds") Collection<Long> gameIds);
 }
@@ -0,0 +1,29 @@
+package GamersCoveDev.repositories;
+
+import GamersCoveDev.domains.dto.GameCardDto;
+import GamersCoveDev.domains.dto.GameFilterDto;
+import GamersCoveDev.domains.entities.GameEntity;
+
+import java.util.List;
+
+// Queries whose SQL depends on which filters are present; implemented in GameRepositoryCustomImpl
+public interface GameRepositoryCustom {
+
+    List<GameEntity> findFiltered(GameFilterDto filter, long afterId, int limit);
+
+    // Card-only variant of findFiltered
+    List<GameCardDto> findFilteredCards(GameFilterDto filter, long afterId, int limit);
+
+    // Relevance-ranked title search served by the pg_trgm GIN index (see V2 migration): exact matches
+    // first, then prefix matches, then by trigram similarity. Keyset-paginated on (rank, id); afterId is
+    // the last game of the previous page, or 0 for the first page
+    List<GameEntity> searchByTitleRanked(String term, String pattern, String prefixPattern, long afterId, int limit);
+
+    List<GameCardDto> searchCardsByTitleRanked(String term, String pattern, String prefixPattern, long afterId, int limit);
+
+    // INSERT ... ON CONFLICT (external_api_id) DO UPDATE ... RETURNING, one round trip
+    GameUpsertResult upsert(GameEntity game);
+
+    // Same as upsert for many games in a single statement; externalApiIds must be distinct
+    List<GameUpsertResult> upsertAll(List<GameEntity> games);
+}
@@ -0,0 +1,266 @@
+package GamersCoveDev.repositories;
+
+import GamersCoveDev.domains.dto.GameCardDto;
+import GamersCoveDev.domains.dto.GameFilterDto;
+import GamersCoveDev.domains.entities.GameEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class GameRepositoryCustomImpl implements GameRepositoryCustom {
+
+    private static final String CARD_COLUMNS = "g.id, g.title, g.cover_image_url, g.release_date, g.genres";
+
+    // Exact title, then prefix, then any match, plus trigram similarity, folded into one integer so
+    // a search page can continue after the (rank, id) of the previous page's last game
+    private static final String TITLE_RANK =
+            "(CASE WHEN lower(g.title) = lower(:term) THEN 2000000 " +
+            "WHEN g.title ILIKE :prefixPattern THEN 1000000 ELSE 0 END " +
+            "+ CAST(round(CAST(similarity(g.title, :term) AS numeric) * 999999) AS integer))";
+
+    // The cursor game's rank is recomputed for the same term; if it has since been deleted the page is empty
+    static String rankedSql(String columns) {
+        return "SELECT " + columns + " FROM games g " +
+                "WHERE (g.title ILIKE :pattern OR g.title % :term) " +
+                "AND (:afterId = 0 OR (" + TITLE_RANK + ", -g.id) < " +
+                "(SELECT " + TITLE_RANK + ", -g.id FROM games g WHERE g.id = :afterId)) " +
+                "ORDER BY " + TITLE_RANK + " DESC, g.id " +
+                "LIMIT :limit";
+    }
+
+    private static final RowMapper<GameCardDto> CARD_ROW_MAPPER = (rs, rowNum) -> {
+        Date releaseDate = rs.getDate("release_date");
+        return new GameCardDto(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("cover_image_url"),
+                releaseDate != null ? releaseDate.toLocalDate() : null,
+                toStringArray(rs.getArray("genres")));
+    };
+
+    private static final String UPSERT_COLUMNS =
+            "id, external_api_id, name, title, description, cover_image_url, release_date, platforms, genres";
+    private static final String UPSERT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_CONFLICT =
+            " ON CONFLICT (external_api_id) DO UPDATE SET " +
+            "name = EXCLUDED.name, " +
+            "title = EXCLUDED.title, " +
+            "description = EXCLUDED.description, " +
+            "cover_image_url = EXCLUDED.cover_image_url, " +
+            "release_date = EXCLUDED.release_date, " +
+            "platforms = EXCLUDED.platforms, " +
+            "genres = EXCLUDED.genres " +
+            // Identical rows are left alone: no write, no updated_at bump, and no RETURNING row
+            "WHERE (games.name, games.title, games.description, games.cover_image_url, games.release_date, " +
+            "games.platforms, games.genres) IS DISTINCT FROM (EXCLUDED.name, EXCLUDED.title, EXCLUDED.description, " +
+            "EXCLUDED.cover_image_url, EXCLUDED.release_date, EXCLUDED.platforms, EXCLUDED.genres) " +
+            // xmax is 0 only for rows this statement inserted
+            "RETURNING " + UPSERT_COLUMNS + ", updated_at, (xmax = 0) AS inserted";
+
+    // Stored rows for the inputs the upsert skipped as unchanged
+    private static final String SELECT_BY_EXTERNAL_IDS =
+            "SELECT " + UPSERT_COLUMNS + ", updated_at FROM games WHERE external_api_id IN (:externalApiIds)";
+
+    private static final RowMapper<GameEntity> UPSERT_ROW_MAPPER = (rs, rowNum) -> {
+        GameEntity game = new GameEntity();
+        game.setId(rs.getLong("id"));
+        game.setExternalApiId(rs.getString("external_api_id"));
+        game.setName(rs.getString("name"));
+        game.setTitle(rs.getString("title"));
+        game.setDescription(rs.getString("description"));
+        game.setCoverImageUrl(rs.getString("cover_image_url"));
+        Date releaseDate = rs.getDate("release_date");
+        game.setReleaseDate(releaseDate != null ? releaseDate.toLocalDate() : null);
+        game.setPlatforms(toStringArray(rs.getArray("platforms")));
+        game.setGenres(toStringArray(rs.getArray("genres")));
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        game.setUpdatedAt(updatedAt != null ? updatedAt.toInstant() : null);
+        return game;
+    };
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final GameIdAllocator gameIdAllocator;
+
+    public GameRepositoryCustomImpl(JdbcTemplate jdbcTemplate, GameIdAllocator gameIdAllocator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.gameIdAllocator = gameIdAllocator;
+    }
+
+    /**
+     * Keyset page of games matching the filter. Only the predicates that are set are
+     * added to the SQL, so Postgres can plan each combination against the GIN indexes
+     * on genres/platforms and the btree on release_date.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<GameEntity> findFiltered(GameFilterDto filter, long afterId, int limit) {
+        Query query = entityManager.createNativeQuery(filteredSql("g.*", filter), GameEntity.class)
+                .setParameter("afterId", afterId)
+                .setParameter("limit", limit);
+        if (filter.getGenre() != null) {
+            query.setParameter("genre", filter.getGenre());
+        }
+        if (filter.getPlatform() != null) {
+            query.setParameter("platform", filter.getPlatform());
+        }
+        if (filter.getReleasedAfter() != null) {
+            query.setParameter("releasedAfter", filter.getReleasedAfter());
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public List<GameCardDto> findFilteredCards(GameFilterDto filter, long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("limit", limit)
+                .addValue("genre", filter.getGenre())
+                .addValue("platform", filter.getPlatform())
+                .addValue("releasedAfter", filter.getReleasedAfter());
+        return namedJdbcTemplate.query(filteredSql(CARD_COLUMNS, filter), params, CARD_ROW_MAPPER);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<GameEntity> searchByTitleRanked(String term, String pattern, String prefixPattern, long afterId, int limit) {
+        return entityManager.createNativeQuery(rankedSql("g.*"), GameEntity.class)
+                .setParameter("term", term)
+                .setParameter("pattern", pattern)
+                .setParameter("prefixPattern", prefixPattern)
+                .setParameter("afterId", afterId)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<GameCardDto> searchCardsByTitleRanked(String term, String pattern, String prefixPattern, long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("term", term)
+                .addValue("pattern", pattern)
+                .addValue("prefixPattern", prefixPattern)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        return namedJdbcTemplate.query(rankedSql(CARD_COLUMNS), params, CARD_ROW_MAPPER);
+    }
+
+    private static String filteredSql(String columns, GameFilterDto filter) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(columns).append(" FROM games g WHERE g.id > :afterId");
+        if (filter.getGenre() != null) {
+            sql.append(" AND g.genres @> ARRAY[CAST(:genre AS text)]");
+        }
+        if (filter.getPlatform() != null) {
+            sql.append(" AND g.platforms @> ARRAY[CAST(:platform AS text)]");
+        }
+        if (filter.getReleasedAfter() != null) {
+            sql.append(" AND g.release_date > :releasedAfter");
+        }
+        sql.append(" ORDER BY g.id LIMIT :limit");
+        return sql.toString();
+    }
+
+    @Override
+    public GameUpsertResult upsert(GameEntity game) {
+        return upsertAll(List.of(game)).get(0);
+    }
+
+    @Override
+    public List<GameUpsertResult> upsertAll(List<GameEntity> games) {
+        if (games.isEmpty()) {
+            return List.of();
+        }
+        // Conflicting rows are locked in VALUES order; one global order keeps overlapping concurrent
+        // upserts (batch API, import jobs, delta sync) from deadlocking on each other
+        List<GameEntity> sorted = games.stream()
+                .sorted(Comparator.comparing(GameEntity::getExternalApiId))
+                .toList();
+        StringBuilder sql = new StringBuilder("INSERT INTO games (").append(UPSERT_COLUMNS).append(") VALUES ");
+        for (int i = 0; i < sorted.size(); i++) {
+            sql.append(i == 0 ? UPSERT_ROW : ", " + UPSERT_ROW);
+        }
+        sql.append(UPSERT_CONFLICT);
+
+        // Every row gets a candidate id; it is simply unused when the row already exists
+        long[] ids = new long[sorted.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = gameIdAllocator.nextId();
+        }
+
+        List<GameUpsertResult> written = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString());
+            int param = 1;
+            for (int i = 0; i < sorted.size(); i++) {
+                GameEntity game = sorted.get(i);
+                ps.setLong(param++, ids[i]);
+                ps.setString(param++, game.getExternalApiId());
+                ps.setString(param++, game.getName() != null ? game.getName() : game.getTitle());
+                ps.setString(param++, game.getTitle());
+                ps.setString(param++, game.getDescription());
+                ps.setString(param++, game.getCoverImageUrl());
+                ps.setObject(param++, game.getReleaseDate(), Types.DATE);
+                setTextArray(ps, param++, connection, game.getPlatforms());
+                setTextArray(ps, param++, connection, game.getGenres());
+            }
+            return ps;
+        }, (rs, rowNum) -> new GameUpsertResult(UPSERT_ROW_MAPPER.mapRow(rs, rowNum), rs.getBoolean("inserted")
+                ? GameUpsertResult.Outcome.INSERTED
+                : GameUpsertResult.Outcome.UPDATED));
+
+        Map<String, GameUpsertResult> byExternalId = new HashMap<>();
+        for (GameUpsertResult row : written) {
+            byExternalId.put(row.game().getExternalApiId(), row);
+        }
+        // Only rows that were written come back; the rest already held these values
+        List<String> unchanged = games.stream()
+                .map(GameEntity::getExternalApiId)
+                .filter(externalApiId -> !byExternalId.containsKey(externalApiId))
+                .toList();
+        if (!unchanged.isEmpty()) {
+            for (GameEntity game : namedJdbcTemplate.query(
+                    SELECT_BY_EXTERNAL_IDS, Map.of("externalApiIds", unchanged), UPSERT_ROW_MAPPER)) {
+                byExternalId.put(game.getExternalApiId(), new GameUpsertResult(game, GameUpsertResult.Outcome.UNCHANGED));
+            }
+        }
+
+        // RETURNING order is not guaranteed, so line rows back up with the input by external id
+        List<GameUpsertResult> results = new ArrayList<>(games.size());
+        for (GameEntity game : games) {
+            results.add(byExternalId.get(game.getExternalApiId()));
+        }
+        return results;
+    }
+
+    private static void setTextArray(PreparedStatement ps, int index, Connection connection, String[] values)
+            throws SQLException {
+        if (values == null || values.length == 0) {
+            ps.setNull(index, Types.ARRAY);
+        } else {
+            ps.setArray(index, connection.createArrayOf("text", values));
+        }
+    }
+
+    private static String[] toStringArray(Array array) throws SQLException {
+        return array == null ? null : (String[]) array.getArray();
+    }
+}
@@ -0,0 +1,18 @@
+package GamersCoveDev.repositories;
+
+import GamersCoveDev.domains.entities.GameEntity;
+
+// A row passed to GameRepositoryCustom.upsert and what happened to it; game is the row as stored
+public record GameUpsertResult(GameEntity game, Outcome outcome) {
+
+    public enum Outcome {
+        INSERTED,
+        UPDATED,
+        // The stored row already had these values and was not written
+        UNCHANGED
+    }
+
+    public boolean changed() {
+        return outcome != Outcome.UNCHANGED;
+    }
+}
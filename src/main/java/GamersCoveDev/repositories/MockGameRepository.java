@@ -1,11 +1,21 @@
 package GamersCoveDev.repositories;
 
+import GamersCoveDev.domains.dto.GameCardDto;
+import GamersCoveDev.domains.dto.GameFilterDto;
 import GamersCoveDev.domains.entities.GameEntity;
+import GamersCoveDev.domains.entities.ReviewEntity;
 import GamersCoveDev.mockdata.mockgames;
+import GamersCoveDev.mockdata.mockreview;
+import org.springframework.data.domain.Limit;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class MockGameRepository implements GameRepository {
 
@@ -50,6 +60,99 @@ public class MockGameRepository implements GameRepository {
         return mockgames.GAMES;
     }
 
+    @Override
+    public List<GameEntity> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit) {
+        return mockgames.GAMES.stream()
+                .filter(g -> g.getId() > afterId)
+                .sorted(Comparator.comparing(GameEntity::getId))
+                .limit(limit.max())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Set<String> findExternalApiIdsIn(Collection<String> externalApiIds) {
+        return mockgames.GAMES.stream()
+                .map(GameEntity::getExternalApiId)
+                .filter(externalApiIds::contains)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public List<GameCardDto> findCardsByIdGreaterThan(Long afterId, Limit limit) {
+        return toCards(findByIdGreaterThanOrderByIdAsc(afterId, limit));
+    }
+
+    @Override
+    public Stream<GameEntity> streamAllOrderedById() {
+        return mockgames.GAMES.stream().sorted(Comparator.comparing(GameEntity::getId));
+    }
+
+    @Override
+    public List<GameEntity> searchByTitleRanked(String term, String pattern, String prefixPattern, long afterId, int limit) {
+        String lowerTerm = term.toLowerCase();
+        List<GameEntity> ranked = findByTitleContainingIgnoreCase(term).stream()
+                .sorted(Comparator.comparing((GameEntity g) -> !g.getTitle().toLowerCase().startsWith(lowerTerm))
+                        .thenComparing(GameEntity::getId))
+                .collect(Collectors.toList());
+        // Continue after the cursor game's position in the ranking
+        int start = 0;
+        if (afterId != 0) {
+            start = IntStream.range(0, ranked.size())
+                    .filter(i -> ranked.get(i).getId() == afterId)
+                    .map(i -> i + 1)
+                    .findFirst()
+                    .orElse(ranked.size());
+        }
+        return ranked.stream()
+                .skip(start)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<GameCardDto> searchCardsByTitleRanked(String term, String pattern, String prefixPattern, long afterId, int limit) {
+        return toCards(searchByTitleRanked(term, pattern, prefixPattern, afterId, limit));
+    }
+
+    @Override
+    public List<GameCardDto> findFilteredCards(GameFilterDto filter, long afterId, int limit) {
+        return toCards(findFiltered(filter, afterId, limit));
+    }
+
+    private static List<GameCardDto> toCards(List<GameEntity> games) {
+        return games.stream()
+                .map(g -> new GameCardDto(g.getId(), g.getTitle(), g.getCoverImageUrl(), g.getReleaseDate(), g.getGenres()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<GameEntity> findFiltered(GameFilterDto filter, long afterId, int limit) {
+        return mockgames.GAMES.stream()
+                .filter(g -> g.getId() > afterId)
+                .filter(g -> filter.getGenre() == null || List.of(g.getGenres()).contains(filter.getGenre()))
+                .filter(g -> filter.getPlatform() == null || List.of(g.getPlatforms()).contains(filter.getPlatform()))
+                .filter(g -> filter.getReleasedAfter() == null
+                        || (g.getReleaseDate() != null && g.getReleaseDate().isAfter(filter.getReleasedAfter())))
+                .sorted(Comparator.comparing(GameEntity::getId))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<GameRatingAggregate> findRatingAggregate(Long gameId) {
+        return findById(gameId).map(g -> {
+            long sum = 0;
+            int[] histogram = new int[GameRatingAggregate.MAX_RATING];
+            for (ReviewEntity review : mockreview.REVIEWS) {
+                if (review.getGameId().equals(gameId)) {
+                    sum += review.getRating();
+                    histogram[review.getRating() - 1]++;
+                }
+            }
+            return new GameRatingAggregate(sum, IntStream.of(histogram).sum(), histogram);
+        });
+    }
+
     @Override
     public Iterable<GameEntity> findAllById(Iterable<Long> longs) {
         return null;
@@ -61,6 +164,16 @@ public class MockGameRepository implements GameRepository {
         throw new UnsupportedOperationException("Mock repository is read-only.");
     }
     @Override
+    public GameUpsertResult upsert(GameEntity game) { throw new UnsupportedOperationException("Mock repository is read-only."); }
+    @Override
+    public List<GameUpsertResult> upsertAll(List<GameEntity> games) { throw new UnsupportedOperationException(); }
+    @Override
+    public int applyRating(Long gameId, int rating, int countDelta) { throw new UnsupportedOperationException(); }
+    @Override
+    public List<Long> lockIdsAfter(Long afterId, int limit) { throw new UnsupportedOperationException(); }
+    @Override
+    public int repairRatingAggregates(Collection<Long> gameIds) { throw new UnsupportedOperationException(); }
+    @Override
     public <S extends GameEntity> Iterable<S> saveAll(Iterable<S> entities) { throw new UnsupportedOperationException(); }
     @Override
     public Optional<GameEntity> findById(Long id) {
@@ -1,28 +1,98 @@
 package GamersCoveDev.repositories;
 
+import GamersCoveDev.domains.dto.ReviewSummaryDto;
 import GamersCoveDev.domains.entities.ReviewEntity;
+import GamersCoveDev.mockdata.mockgames;
 import GamersCoveDev.mockdata.mockreview;
+import org.springframework.data.domain.Limit;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 public class MockReviewRepository implements ReviewRepository {
 
-    @Override
-    public List<ReviewEntity> findByGameId(Long gameId) {
+    private List<ReviewEntity> findByGameId(Long gameId) {
         return mockreview.REVIEWS.stream()
                 .filter(r -> r.getGameId().equals(gameId))
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<ReviewEntity> findByUserId(Long userId) {
+    public List<ReviewEntity> findPageByGameId(Long gameId, ReviewSort sort, ReviewCursor after, int limit) {
+        return page(r -> r.getGameId().equals(gameId), sort, after, limit);
+    }
+
+    @Override
+    public List<ReviewEntity> findPageByUserId(Long userId, ReviewSort sort, ReviewCursor after, int limit) {
+        return page(r -> r.getUserId().equals(userId), sort, after, limit);
+    }
+
+    // Same (primary DESC, created_at DESC, id) order as ReviewRepositoryCustomImpl
+    private List<ReviewEntity> page(Predicate<ReviewEntity> owner, ReviewSort sort, ReviewCursor after, int limit) {
+        Comparator<ReviewEntity> order = Comparator
+                .comparingInt((ReviewEntity r) -> -primary(r, sort))
+                .thenComparing(r -> r.getCreatedAt() != null ? r.getCreatedAt() : LocalDateTime.MIN,
+                        Comparator.reverseOrder())
+                .thenComparingLong(r -> r.getId() != null ? r.getId() : 0L);
         return mockreview.REVIEWS.stream()
-                .filter(r -> r.getUserId().equals(userId))
+                .filter(owner)
+                .sorted(order)
+                .filter(r -> after == null || order.compare(r, cursorRow(after, sort)) > 0)
+                .limit(limit)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<ReviewSummaryDto> findSummaries(Collection<Long> gameIds, int snippetLength) {
+        return gameIds.stream()
+                .filter(gameId -> mockgames.GAMES.stream().anyMatch(g -> g.getId().equals(gameId)))
+                .map(gameId -> {
+                    List<ReviewEntity> top = page(r -> r.getGameId().equals(gameId), ReviewSort.RATING, null,
+                            Integer.MAX_VALUE);
+                    double average = top.stream().mapToInt(ReviewEntity::getRating).average().orElse(0.0);
+                    ReviewEntity best = top.isEmpty() ? null : top.get(0);
+                    return ReviewSummaryDto.builder()
+                            .gameId(gameId)
+                            .averageRating(Math.round(average * 10.0) / 10.0)
+                            .totalRatings(top.size())
+                            .topReviewId(best != null ? best.getId() : null)
+                            .topReviewUserId(best != null ? best.getUserId() : null)
+                            .topReviewRating(best != null ? best.getRating() : null)
+                            .topReviewSnippet(best != null && best.getContent() != null
+                                    ? best.getContent().substring(0, Math.min(snippetLength, best.getContent().length()))
+                                    : null)
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static int primary(ReviewEntity review, ReviewSort sort) {
+        return switch (sort) {
+            case NEWEST -> 0;
+            case RATING -> review.getRating();
+            case HELPFUL -> review.getHelpfulCount() != null ? review.getHelpfulCount() : 0;
+        };
+    }
+
+    private static ReviewEntity cursorRow(ReviewCursor cursor, ReviewSort sort) {
+        ReviewEntity row = new ReviewEntity();
+        row.setId(cursor.id());
+        row.setCreatedAt(cursor.createdAt());
+        if (sort == ReviewSort.RATING) {
+            row.setRating(cursor.primary());
+        } else if (sort == ReviewSort.HELPFUL) {
+            row.setHelpfulCount(cursor.primary());
+        }
+        return row;
+    }
+
     @Override
     public List<ReviewEntity> findByGameIdAndUserId(Long gameId, Long userId) {
         return mockreview.REVIEWS.stream()
@@ -31,12 +101,28 @@ public class MockReviewRepository implements ReviewRepository {
     }
 
     @Override
-    public List<ReviewEntity> findTop3ByGameIdOrderByRatingDesc(Long gameId) {
+    public ReviewListVersion findListVersionByGameId(Long gameId) {
+        List<ReviewEntity> reviews = findByGameId(gameId);
+        Instant lastModified = reviews.stream()
+                .map(ReviewEntity::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(Instant::compareTo)
+                .orElse(null);
+        return new ReviewListVersion(reviews.size(), lastModified);
+    }
+
+    @Override
+    public long countByGameIdAndCreatedAtAfter(Long gameId, LocalDateTime since) {
         return mockreview.REVIEWS.stream()
                 .filter(r -> r.getGameId().equals(gameId))
-                .sorted((a, b) -> Integer.compare(b.getRating(), a.getRating()))
-                .limit(3)
-                .collect(Collectors.toList());
+                .filter(r -> r.getCreatedAt() != null && r.getCreatedAt().isAfter(since))
+                .count();
+    }
+
+    @Override
+    public List<ReviewEntity> findByGameIdOrderByRatingDescCreatedAtDescIdAsc(Long gameId, Limit limit) {
+        return page(r -> r.getGameId().equals(gameId), ReviewSort.RATING, null,
+                limit.isLimited() ? limit.max() : Integer.MAX_VALUE);
     }
 
     @Override
@@ -48,6 +134,10 @@ public class MockReviewRepository implements ReviewRepository {
         return mockreview.REVIEWS.stream().filter(r -> r.getId().equals(id)).findFirst();
     }
     @Override
+    public Optional<ReviewEntity> findByIdForUpdate(Long id) {
+        return findById(id);
+    }
+    @Override
     public boolean existsById(Long id) {
         return mockreview.REVIEWS.stream().anyMatch(r -> r.getId().equals(id));
     }
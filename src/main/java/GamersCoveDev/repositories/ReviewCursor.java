@@ -0,0 +1,39 @@
+package GamersCoveDev.repositories;
+
+import GamersCoveDev.domains.entities.ReviewEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Sort key of the last review on a page; primary is the rating or helpful count, unused for NEWEST
+public record ReviewCursor(int primary, LocalDateTime createdAt, long id) {
+
+    // Cursors are the sort key of the last review on the previous page, tagged with the sort they belong to
+    public static String encode(ReviewEntity last, ReviewSort sort) {
+        int primary = switch (sort) {
+            case NEWEST -> 0;
+            case RATING -> last.getRating();
+            case HELPFUL -> last.getHelpfulCount() != null ? last.getHelpfulCount() : 0;
+        };
+        String key = sort + "|" + primary + "|" + last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // null for a missing cursor; IllegalArgumentException for one that is malformed or from another sort
+    public static ReviewCursor decode(String cursor, ReviewSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 4 || !parts[0].equals(sort.name())) {
+                throw new IllegalArgumentException("Invalid cursor for sort " + sort + ": " + cursor);
+            }
+            return new ReviewCursor(Integer.parseInt(parts[1]), LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package GamersCoveDev.repositories;
+
+import java.time.Instant;
+
+// Cheap fingerprint of a game's review list: any insert, edit or delete changes one of the two
+public record ReviewListVersion(long count, Instant lastModified) {
+}
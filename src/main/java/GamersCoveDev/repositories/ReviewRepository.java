@@ -1,19 +1,36 @@
 package GamersCoveDev.repositories;
 
 import GamersCoveDev.domains.entities.ReviewEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ReviewRepository extends CrudRepository<ReviewEntity, Long> {
+public interface ReviewRepository extends CrudRepository<ReviewEntity, Long>, ReviewRepositoryCustom {
 
-    List<ReviewEntity> findByGameId(Long gameId);
+    List<ReviewEntity> findByGameIdAndUserId(Long gameId, Long userId);
 
-    List<ReviewEntity> findByUserId(Long userId);
+    // SELECT ... FOR UPDATE: concurrent edits of one review apply their rating moves one after another
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from ReviewEntity r where r.id = :id")
+    Optional<ReviewEntity> findByIdForUpdate(@Param("id") Long id);
 
-    List<ReviewEntity> findByGameIdAndUserId(Long gameId, Long userId);
+    // One aggregate over idx_reviews_game_created; updated_at is not in that index, so each of the
+    // game's rows is read from the heap, but nothing is mapped or sent back
+    @Query("select new GamersCoveDev.repositories.ReviewListVersion(count(r), max(r.updatedAt)) " +
+            "from ReviewEntity r where r.gameId = :gameId")
+    ReviewListVersion findListVersionByGameId(@Param("gameId") Long gameId);
+
+    // Recent-ratings count for the stats endpoint; no review rows are loaded
+    long countByGameIdAndCreatedAtAfter(Long gameId, LocalDateTime since);
 
-    // ✅ Required by ReviewTool
-    List<ReviewEntity> findTop3ByGameIdOrderByRatingDesc(Long gameId);
+    // A game's best reviews, read in order from idx_reviews_game_rating; cached per game by TopReviewsCache
+    List<ReviewEntity> findByGameIdOrderByRatingDescCreatedAtDescIdAsc(Long gameId, Limit limit);
 }
@@ -0,0 +1,19 @@
+package GamersCoveDev.repositories;
+
+import GamersCoveDev.domains.dto.ReviewSummaryDto;
+import GamersCoveDev.domains.entities.ReviewEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+// Keyset-paginated review listings and batched summaries; implemented in ReviewRepositoryCustomImpl
+public interface ReviewRepositoryCustom {
+
+    // after == null starts from the first page
+    List<ReviewEntity> findPageByGameId(Long gameId, ReviewSort sort, ReviewCursor after, int limit);
+
+    List<ReviewEntity> findPageByUserId(Long userId, ReviewSort sort, ReviewCursor after, int limit);
+
+    // One row per existing game in gameIds (in no particular order), top review content cut to snippetLength
+    List<ReviewSummaryDto> findSummaries(Collection<Long> gameIds, int snippetLength);
+}
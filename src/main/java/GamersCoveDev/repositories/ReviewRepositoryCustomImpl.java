@@ -0,0 +1,122 @@
+package GamersCoveDev.repositories;
+
+import GamersCoveDev.domains.dto.ReviewSummaryDto;
+import GamersCoveDev.domains.entities.ReviewEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
+
+    // Totals come from the games row (see V6); the lateral subquery picks each game's top review
+    // from its own reviews only, so the cost grows with the number of ids, not the review table
+    private static final String SUMMARIES_SQL =
+            "SELECT g.id AS game_id, g.total_ratings, " +
+            "CASE WHEN g.total_ratings > 0 " +
+            "THEN round(CAST(g.rating_sum AS numeric) / g.total_ratings, 1) ELSE 0 END AS average_rating, " +
+            "t.id AS review_id, t.user_id, t.rating, t.snippet " +
+            "FROM games g " +
+            "LEFT JOIN LATERAL (" +
+            "SELECT r.id, r.user_id, r.rating, left(r.content, :snippetLength) AS snippet " +
+            // Only a public, spoiler-free review is quoted; NULL flags read as the column defaults
+            "FROM reviews r WHERE r.game_id = g.id " +
+            "AND COALESCE(r.is_public, true) AND NOT COALESCE(r.is_spoiler, false) " +
+            "ORDER BY r.rating DESC, r.created_at DESC, r.id LIMIT 1) t ON true " +
+            "WHERE g.id IN (:gameIds)";
+
+    private static final RowMapper<ReviewSummaryDto> SUMMARY_ROW_MAPPER = (rs, rowNum) -> ReviewSummaryDto.builder()
+            .gameId(rs.getLong("game_id"))
+            .averageRating(rs.getDouble("average_rating"))
+            .totalRatings(rs.getLong("total_ratings"))
+            .topReviewId(rs.getObject("review_id", Long.class))
+            .topReviewUserId(rs.getObject("user_id", Long.class))
+            .topReviewRating(rs.getObject("rating", Integer.class))
+            .topReviewSnippet(rs.getString("snippet"))
+            .build();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public ReviewRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public List<ReviewEntity> findPageByGameId(Long gameId, ReviewSort sort, ReviewCursor after, int limit) {
+        return findPage("r.game_id", gameId, sort, after, limit);
+    }
+
+    @Override
+    public List<ReviewEntity> findPageByUserId(Long userId, ReviewSort sort, ReviewCursor after, int limit) {
+        return findPage("r.user_id", userId, sort, after, limit);
+    }
+
+    /**
+     * One page in (primary DESC, created_at DESC, id) order. For NEWEST this is exactly the
+     * (owner, created_at DESC, id) index order, so Postgres reads only the page's rows; the
+     * other sorts top-N sort the owner's rows by the same key.
+     */
+    @SuppressWarnings("unchecked")
+    private List<ReviewEntity> findPage(String ownerColumn, Long ownerId, ReviewSort sort, ReviewCursor after,
+                                        int limit) {
+        String primary = primaryColumn(sort);
+        String createdAfter = "(r.created_at < :createdAt OR (r.created_at = :createdAt AND r.id > :id))";
+
+        StringBuilder sql = new StringBuilder("SELECT r.* FROM reviews r WHERE ")
+                .append(ownerColumn).append(" = :ownerId");
+        if (after != null) {
+            sql.append(" AND ");
+            if (primary == null) {
+                sql.append(createdAfter);
+            } else {
+                sql.append("(").append(primary).append(" < :primary OR (")
+                        .append(primary).append(" = :primary AND ").append(createdAfter).append("))");
+            }
+        }
+        sql.append(" ORDER BY ");
+        if (primary != null) {
+            sql.append(primary).append(" DESC, ");
+        }
+        sql.append("r.created_at DESC, r.id LIMIT :limit");
+
+        Query query = entityManager.createNativeQuery(sql.toString(), ReviewEntity.class)
+                .setParameter("ownerId", ownerId)
+                .setParameter("limit", limit);
+        if (after != null) {
+            query.setParameter("createdAt", after.createdAt())
+                    .setParameter("id", after.id());
+            if (primary != null) {
+                query.setParameter("primary", after.primary());
+            }
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public List<ReviewSummaryDto> findSummaries(Collection<Long> gameIds, int snippetLength) {
+        if (gameIds.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("gameIds", gameIds)
+                .addValue("snippetLength", snippetLength);
+        return namedJdbcTemplate.query(SUMMARIES_SQL, params, SUMMARY_ROW_MAPPER);
+    }
+
+    private static String primaryColumn(ReviewSort sort) {
+        return switch (sort) {
+            case NEWEST -> null;
+            case RATING -> "r.rating";
+            case HELPFUL -> "r.is_helpful_count";
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package GamersCoveDev.repositories;
+
+import java.util.Locale;
+
+// Orders for review listings; every order ends with created_at DESC, id so keyset cursors are unique
+public enum ReviewSort {
+    NEWEST,
+    RATING,
+    HELPFUL;
+
+    public static ReviewSort fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return NEWEST;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown review sort: " + value);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package GamersCoveDev.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Vote rows (review_likes, review_helpful_votes) and the counter columns derived from
+ * them. Vote writes touch only the voter's own row, so hot reviews don't serialise on
+ * the reviews row; counters are moved separately by applyCounterDeltas.
+ */
+@Repository
+public class ReviewVoteRepository {
+
+    // Helpful-vote outcomes: how the helpful / not-helpful counters must move
+    public record HelpfulDelta(int helpful, int notHelpful) {
+        public static final HelpfulDelta NONE = new HelpfulDelta(0, 0);
+    }
+
+    // Counter changes for one review, applied in one batched UPDATE
+    public record CounterDelta(long reviewId, long likes, long helpful, long notHelpful) {
+    }
+
+    private static final String APPLY_DELTA =
+            "UPDATE reviews SET " +
+            "likes_count = likes_count + ?, " +
+            "is_helpful_count = is_helpful_count + ?, " +
+            "is_not_helpful_count = is_not_helpful_count + ? " +
+            "WHERE id = ?";
+
+    private static final String RECOUNT =
+            "UPDATE reviews r SET " +
+            "likes_count = v.likes, " +
+            "is_helpful_count = v.helpful, " +
+            "is_not_helpful_count = v.not_helpful " +
+            "FROM (SELECT r2.id, COALESCE(l.likes, 0) AS likes, " +
+            "      COALESCE(h.helpful, 0) AS helpful, COALESCE(h.not_helpful, 0) AS not_helpful " +
+            "      FROM reviews r2 " +
+            "      LEFT JOIN (SELECT review_id, count(*) AS likes FROM review_likes GROUP BY review_id) l " +
+            "             ON l.review_id = r2.id " +
+            "      LEFT JOIN (SELECT review_id, count(*) FILTER (WHERE helpful) AS helpful, " +
+            "                        count(*) FILTER (WHERE NOT helpful) AS not_helpful " +
+            "                 FROM review_helpful_votes GROUP BY review_id) h " +
+            "             ON h.review_id = r2.id) v " +
+            "WHERE r.id = v.id " +
+            "AND (r.likes_count, r.is_helpful_count, r.is_not_helpful_count) " +
+            "IS DISTINCT FROM (v.likes, v.helpful, v.not_helpful)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReviewVoteRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // True when this call created the like
+    public boolean addLike(long reviewId, long userId) {
+        return jdbcTemplate.update(
+                "INSERT INTO review_likes (review_id, user_id) VALUES (?, ?) ON CONFLICT DO NOTHING",
+                reviewId, userId) == 1;
+    }
+
+    // True when this call removed a like
+    public boolean removeLike(long reviewId, long userId) {
+        return jdbcTemplate.update(
+                "DELETE FROM review_likes WHERE review_id = ? AND user_id = ?", reviewId, userId) == 1;
+    }
+
+    // Records or flips the user's vote; repeating the same vote changes nothing
+    public HelpfulDelta setHelpfulVote(long reviewId, long userId, boolean helpful) {
+        List<Boolean> inserted = jdbcTemplate.queryForList(
+                "INSERT INTO review_helpful_votes (review_id, user_id, helpful) VALUES (?, ?, ?) " +
+                "ON CONFLICT (review_id, user_id) DO UPDATE SET helpful = EXCLUDED.helpful " +
+                "WHERE review_helpful_votes.helpful <> EXCLUDED.helpful " +
+                "RETURNING (xmax = 0) AS inserted",
+                Boolean.class, reviewId, userId, helpful);
+        if (inserted.isEmpty()) {
+            return HelpfulDelta.NONE;
+        }
+        int sign = helpful ? 1 : -1;
+        return inserted.get(0)
+                ? new HelpfulDelta(helpful ? 1 : 0, helpful ? 0 : 1)
+                : new HelpfulDelta(sign, -sign);
+    }
+
+    public HelpfulDelta removeHelpfulVote(long reviewId, long userId) {
+        List<Boolean> removed = jdbcTemplate.queryForList(
+                "DELETE FROM review_helpful_votes WHERE review_id = ? AND user_id = ? RETURNING helpful",
+                Boolean.class, reviewId, userId);
+        if (removed.isEmpty()) {
+            return HelpfulDelta.NONE;
+        }
+        return removed.get(0) ? new HelpfulDelta(-1, 0) : new HelpfulDelta(0, -1);
+    }
+
+    // Callers pass deltas sorted by review id, so concurrent batches lock rows in the same order
+    public void applyCounterDeltas(List<CounterDelta> deltas) {
+        jdbcTemplate.batchUpdate(APPLY_DELTA, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.likes());
+            ps.setLong(2, delta.helpful());
+            ps.setLong(3, delta.notHelpful());
+            ps.setLong(4, delta.reviewId());
+        });
+    }
+
+    // Recounts every review's counters from the vote tables; returns the number of reviews corrected
+    public int recountCounters() {
+        return jdbcTemplate.update(RECOUNT);
+    }
+}
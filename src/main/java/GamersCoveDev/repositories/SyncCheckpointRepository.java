@@ -0,0 +1,9 @@
+package GamersCoveDev.repositories;
+
+import GamersCoveDev.domains.entities.SyncCheckpointEntity;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SyncCheckpointRepository extends CrudRepository<SyncCheckpointEntity, String> {
+}
@@ -18,8 +18,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Map;
 
-import static java.util.Collections.emptyList;
-
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -81,20 +79,23 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
         String email = firebaseToken.getEmail();
         String name = firebaseToken.getName();
         boolean emailVerified = Boolean.TRUE.equals(firebaseToken.isEmailVerified());
+        // Set with the Admin SDK: setCustomUserClaims(uid, Map.of("admin", true))
+        boolean admin = Boolean.TRUE.equals(firebaseToken.getClaims().get("admin"));
 
         log.debug("Creating UserDetails for user: {}", uid);
         FirebaseUserDetails userDetails = new FirebaseUserDetails(
             uid,
             email,
             name,
-            emailVerified
+            emailVerified,
+            admin
         );
 
         UsernamePasswordAuthenticationToken authentication = 
             new UsernamePasswordAuthenticationToken(
                 userDetails, 
                 null, 
-                emptyList()
+                userDetails.getAuthorities()
             );
         
         authentication.setDetails(firebaseToken.getClaims());
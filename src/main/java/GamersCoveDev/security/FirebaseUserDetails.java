@@ -2,10 +2,12 @@ package GamersCoveDev.security;
 
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 @Getter
 public class FirebaseUserDetails implements UserDetails {
@@ -14,17 +16,20 @@ public class FirebaseUserDetails implements UserDetails {
     private final String email;
     private final String displayName;
     private final boolean emailVerified;
+    // From the "admin" custom claim on the Firebase token
+    private final boolean admin;
 
-    public FirebaseUserDetails(String uid, String email, String displayName, boolean emailVerified) {
+    public FirebaseUserDetails(String uid, String email, String displayName, boolean emailVerified, boolean admin) {
         this.uid = uid;
         this.email = email;
         this.displayName = displayName;
         this.emailVerified = emailVerified;
+        this.admin = admin;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.emptyList();
+        return admin ? List.of(new SimpleGrantedAuthority("ROLE_ADMIN")) : Collections.emptyList();
     }
 
     @Override
@@ -1,15 +1,31 @@
 package GamersCoveDev.services;
 
+import GamersCoveDev.domains.dto.GameBatchResultDto;
+import GamersCoveDev.domains.dto.GameCardDto;
+import GamersCoveDev.domains.dto.GameFacetsDto;
+import GamersCoveDev.domains.dto.GameFilterDto;
+import GamersCoveDev.domains.dto.GameSuggestionDto;
+import GamersCoveDev.domains.dto.PageDto;
 import GamersCoveDev.domains.entities.GameEntity;
 
 import java.util.List;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface GameService {
     GameEntity createGameEntity(GameEntity gameEntity);
+    List<GameBatchResultDto> createGameEntities(List<GameEntity> gameEntities);
     Optional<GameEntity> findById(Long id);
     Optional<GameEntity> findTitle(String title);
-    List<GameEntity> findAll();
+    PageDto<GameEntity> findPage(GameFilterDto filter, String cursor, Integer limit);
+    PageDto<GameCardDto> findCardPage(GameFilterDto filter, String cursor, Integer limit);
     Optional<GameEntity> findByExternalApiId(String externalApiId);
-    List<GameEntity> searchGames(String searchTerm);
+    Set<String> findExistingExternalApiIds(Collection<String> externalApiIds);
+    long forEachGame(Consumer<GameEntity> consumer);
+    PageDto<GameEntity> searchGames(String searchTerm, String cursor, Integer limit);
+    PageDto<GameCardDto> searchGameCards(String searchTerm, String cursor, Integer limit);
+    List<GameSuggestionDto> suggestTitles(String query, Integer limit);
+    GameFacetsDto getFacets(GameFilterDto filter);
 }
@@ -1,6 +1,10 @@
 package GamersCoveDev.services;
 
+import GamersCoveDev.domains.dto.PageDto;
+import GamersCoveDev.domains.dto.RatingStatsDto;
+import GamersCoveDev.domains.dto.ReviewSummaryDto;
 import GamersCoveDev.domains.entities.ReviewEntity;
+import GamersCoveDev.repositories.ReviewListVersion;
 
 import java.util.List;
 import java.util.Optional;
@@ -8,9 +12,23 @@ import java.util.Optional;
 public interface ReviewService {
     ReviewEntity createReview(ReviewEntity review);
     Optional<ReviewEntity> findById(Long id);
-    List<ReviewEntity> findByGameId(Long gameId);
-    List<ReviewEntity> findByUserId(Long userId);
+    // Keyset pages sorted by newest, rating or helpful; nextCursor is bound to the sort it came from
+    PageDto<ReviewEntity> findPageByGameId(Long gameId, String sort, String cursor, Integer limit);
+    ReviewListVersion getReviewListVersion(Long gameId);
+    PageDto<ReviewEntity> findPageByUserId(Long userId, String sort, String cursor, Integer limit);
     ReviewEntity updateReview(ReviewEntity review);
     void deleteReview(Long id);
     Double getAverageRatingForGame(Long gameId);
+
+    // The game's highest-rated reviews, best first, served from the per-game top-reviews cache
+    List<ReviewEntity> getTopReviews(Long gameId, Integer limit);
+
+    // Average, count and top review snippet for each existing game, in request order, from one query
+    List<ReviewSummaryDto> getSummaries(List<Long> gameIds);
+
+    // Histogram, median and recent count from the game's stored histogram; empty if the game doesn't exist
+    Optional<RatingStatsDto> getRatingStats(Long gameId);
+
+    // Recomputes games.rating_sum / total_ratings from reviews; returns the number of games corrected
+    int repairRatingAggregates();
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package GamersCoveDev.services.ai;
 
 import GamersCoveDev.repositories.GameRepository;
-import GamersCoveDev.repositories.ReviewRepository;
+import GamersCoveDev.services.ReviewService;
 import dev.langchain4j.memory.chat.MessageWindowChatMemory;
 import dev.langchain4j.service.AiServices;
 import dev.langchain4j.model.openai.OpenAiChatModel;
@@ -22,7 +22,7 @@ public class GameCoveAgent {
     private final AiAssistant chatAgent;
     private final MessageWindowChatMemory chatMemory;
 
-    public GameCoveAgent(GameRepository gameRepository, ReviewRepository reviewRepository) {
+    public GameCoveAgent(GameRepository gameRepository, ReviewService reviewService) {
         // Initialize with empty chat memory
         this.chatMemory = MessageWindowChatMemory.withMaxMessages(20);
         
@@ -50,7 +50,7 @@ public class GameCoveAgent {
                 .build();
 
         // Initialize tools with repositories
-        ReviewTool reviewTool = new ReviewTool(reviewRepository, gameRepository);
+        ReviewTool reviewTool = new ReviewTool(reviewService, gameRepository);
         RecommendationTool recommendationTool = new RecommendationTool(gameRepository);
         RandomGameTool randomGameTool = new RandomGameTool(gameRepository);
         
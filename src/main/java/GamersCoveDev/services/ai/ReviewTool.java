@@ -5,7 +5,7 @@ import GamersCoveDev.domains.entities.ReviewEntity;
 import GamersCoveDev.mockdata.mockgames;
 import GamersCoveDev.mockdata.mockreview;
 import GamersCoveDev.repositories.GameRepository;
-import GamersCoveDev.repositories.ReviewRepository;
+import GamersCoveDev.services.ReviewService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.langchain4j.agent.tool.Tool;
 import dev.langchain4j.service.UserMessage;
@@ -17,11 +17,11 @@ import java.util.stream.Collectors;
 
 @Service
 public class ReviewTool implements AgentTool {
-    private final ReviewRepository reviewRepo ;
+    private final ReviewService reviewService ;
     private final GameRepository gamesRepo ;
 
-  public  ReviewTool(ReviewRepository reviewRepo, GameRepository gamesRepo) {
-      this.reviewRepo = reviewRepo;
+  public  ReviewTool(ReviewService reviewService, GameRepository gamesRepo) {
+      this.reviewService = reviewService;
       this.gamesRepo = gamesRepo;
   }
 
@@ -133,8 +133,8 @@ public class ReviewTool implements AgentTool {
         try {
             System.out.println("🔍 Looking for reviews for game: " + game.getTitle() + " (ID: " + game.getId() + ")");
             
-            // First try database
-            List<ReviewEntity> reviews = reviewRepo.findTop3ByGameIdOrderByRatingDesc(game.getId());
+            // First try database (cached per game, so repeat questions don't re-query)
+            List<ReviewEntity> reviews = reviewService.getTopReviews(game.getId(), 3);
             System.out.println("🔍 Database query returned " + reviews.size() + " reviews");
             
             if (!reviews.isEmpty()) {
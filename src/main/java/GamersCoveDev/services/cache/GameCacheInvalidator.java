@@ -0,0 +1,51 @@
+package GamersCoveDev.services.cache;
+
+import GamersCoveDev.config.CacheConfig;
+import GamersCoveDev.domains.entities.GameEntity;
+import GamersCoveDev.events.GamesSavedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Evicts the game lookup caches once a write has committed, so the next read loads the
+ * committed row. Evicting rather than putting the saved game keeps an older write that
+ * commits later from overwriting a newer cached copy, and never caches the partial entity
+ * an upsert returns.
+ */
+@Component
+public class GameCacheInvalidator {
+
+    private final Cache gamesById;
+    private final Cache gamesByExternalApiId;
+    private final Cache gamesByTitle;
+
+    public GameCacheInvalidator(CacheManager cacheManager) {
+        this.gamesById = cacheManager.getCache(CacheConfig.GAMES_BY_ID);
+        this.gamesByExternalApiId = cacheManager.getCache(CacheConfig.GAMES_BY_EXTERNAL_API_ID);
+        this.gamesByTitle = cacheManager.getCache(CacheConfig.GAMES_BY_TITLE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGamesSaved(GamesSavedEvent event) {
+        for (GameEntity game : event.games()) {
+            gamesById.evict(game.getId());
+            gamesByExternalApiId.evict(game.getExternalApiId());
+            // Drops a cached miss for the new title
+            gamesByTitle.evict(game.getTitle());
+        }
+        evictPreviousTitles(event.games().stream().map(GameEntity::getId).collect(Collectors.toSet()));
+    }
+
+    // A renamed game is still cached under its old title; one pass over the bounded title cache finds it
+    private void evictPreviousTitles(Set<Long> ids) {
+        Map<Object, Object> titles = ((CaffeineCache) gamesByTitle).getNativeCache().asMap();
+        titles.values().removeIf(value -> value instanceof GameEntity cached && ids.contains(cached.getId()));
+    }
+}
@@ -0,0 +1,107 @@
+package GamersCoveDev.services.igdb;
+
+import GamersCoveDev.domains.dto.IGDBGameResponseDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Client for the IGDB /v4/games endpoint. Every request goes through one shared rate
+ * limiter (IGDB allows 4 requests per second per client) and is retried with
+ * exponential backoff on 429, 5xx and I/O errors.
+ */
+@Component
+public class IGDBClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(IGDBClient.class);
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    private final RestTemplate restTemplate;
+    private final String gamesEndpoint;
+    private final String clientId;
+    private final String accessToken;
+    private final RequestRateLimiter rateLimiter;
+    private final int maxRetries;
+    private final long initialBackoffMillis;
+
+    public IGDBClient(RestTemplate restTemplate,
+                      @Value("${igdb.base-url:https://api.igdb.com/v4}") String baseUrl,
+                      @Value("${igdb.client.id:your-client-id}") String clientId,
+                      @Value("${igdb.access.token:your-access-token}") String accessToken,
+                      @Value("${igdb.requests-per-second:4}") double requestsPerSecond,
+                      @Value("${igdb.max-retries:5}") int maxRetries,
+                      @Value("${igdb.initial-backoff-ms:500}") long initialBackoffMillis) {
+        this.restTemplate = restTemplate;
+        this.gamesEndpoint = baseUrl + "/games";
+        this.clientId = clientId;
+        this.accessToken = accessToken;
+        this.rateLimiter = new RequestRateLimiter(requestsPerSecond);
+        this.maxRetries = maxRetries;
+        this.initialBackoffMillis = initialBackoffMillis;
+    }
+
+    // Runs one Apicalypse query against /games, e.g. "fields name; sort id asc; limit 500;"
+    public List<IGDBGameResponseDto> fetchGames(String query) {
+        HttpEntity<String> entity = new HttpEntity<>(query, createIGDBHeaders());
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                rateLimiter.acquire();
+                ResponseEntity<IGDBGameResponseDto[]> response = restTemplate.exchange(
+                        gamesEndpoint,
+                        HttpMethod.POST,
+                        entity,
+                        IGDBGameResponseDto[].class
+                );
+                IGDBGameResponseDto[] games = response.getBody();
+                return games != null ? Arrays.asList(games) : List.of();
+            } catch (HttpClientErrorException.TooManyRequests | HttpServerErrorException | ResourceAccessException e) {
+                if (attempt >= maxRetries) {
+                    throw new IllegalStateException("IGDB request failed after " + (attempt + 1) + " attempts", e);
+                }
+                long backoff = backoffMillis(attempt);
+                logger.warn("IGDB request failed ({}), retrying in {} ms", e.getMessage(), backoff);
+                sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting to call IGDB", e);
+            }
+        }
+    }
+
+    // Exponential with full jitter, so concurrent callers do not retry in lockstep
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, initialBackoffMillis << Math.min(attempt, 16));
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off from IGDB", e);
+        }
+    }
+
+    private HttpHeaders createIGDBHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Client-ID", clientId);
+        headers.set("Authorization", "Bearer " + accessToken);
+        headers.set("Accept", "application/json");
+        return headers;
+    }
+}
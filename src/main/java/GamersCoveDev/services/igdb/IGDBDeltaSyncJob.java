@@ -0,0 +1,32 @@
+package GamersCoveDev.services.igdb;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Runs the IGDB delta sync in the background; off unless igdb.delta-sync.enabled=true
+@Component
+@ConditionalOnProperty(name = "igdb.delta-sync.enabled", havingValue = "true")
+public class IGDBDeltaSyncJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(IGDBDeltaSyncJob.class);
+
+    private final IGDBDeltaSyncService deltaSyncService;
+
+    public IGDBDeltaSyncJob(IGDBDeltaSyncService deltaSyncService) {
+        this.deltaSyncService = deltaSyncService;
+    }
+
+    @Scheduled(initialDelayString = "${igdb.delta-sync.initial-delay:PT1M}",
+            fixedDelayString = "${igdb.delta-sync.interval:PT15M}")
+    public void run() {
+        try {
+            deltaSyncService.runDeltaSync();
+        } catch (IllegalStateException e) {
+            // Already recorded on the checkpoint; the next run resumes from it
+            logger.warn("Scheduled IGDB delta sync did not complete: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package GamersCoveDev.services.igdb;
+
+import GamersCoveDev.domains.dto.GameBatchResultDto;
+import GamersCoveDev.domains.dto.IGDBGameResponseDto;
+import GamersCoveDev.domains.dto.SyncStatusDto;
+import GamersCoveDev.domains.entities.GameEntity;
+import GamersCoveDev.domains.entities.SyncCheckpointEntity;
+import GamersCoveDev.repositories.SyncCheckpointRepository;
+import GamersCoveDev.services.GameService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pulls only the IGDB games changed since the last run. The checkpoint is the pair
+ * (updated_at, id) of the newest applied record; IGDB sorts on one field only, so
+ * records sharing a timestamp are drained separately in id order before moving past
+ * it. The checkpoint is saved after every fully applied page, so an interrupted run resumes
+ * where it stopped and re-applies at most one page (upserts are idempotent). A page with a
+ * failed chunk stops the run without moving the checkpoint past it.
+ */
+@Service
+public class IGDBDeltaSyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IGDBDeltaSyncService.class);
+
+    public static final String SOURCE = "igdb";
+
+    private static final String DELTA_FIELDS =
+            "fields name,summary,cover.image_id,first_release_date,platforms.name,genres.name,updated_at;";
+
+    private final IGDBClient igdbClient;
+    private final IGDBGameConverter gameConverter;
+    private final GameService gameService;
+    private final SyncCheckpointRepository checkpointRepository;
+    private final int pageSize;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    // Runs started over HTTP; the scheduled job runs on the scheduler thread instead
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "igdb-delta-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public IGDBDeltaSyncService(IGDBClient igdbClient,
+                                IGDBGameConverter gameConverter,
+                                GameService gameService,
+                                SyncCheckpointRepository checkpointRepository,
+                                @Value("${igdb.sync.page-size:500}") int pageSize) {
+        this.igdbClient = igdbClient;
+        this.gameConverter = gameConverter;
+        this.gameService = gameService;
+        this.checkpointRepository = checkpointRepository;
+        this.pageSize = pageSize;
+    }
+
+    public SyncStatusDto runDeltaSync() {
+        acquire();
+        SyncCheckpointEntity checkpoint;
+        try {
+            checkpoint = sync(loadCheckpoint());
+        } finally {
+            running.set(false);
+        }
+        return toStatus(checkpoint);
+    }
+
+    // Starts a run in the background and returns at once; follow it with getStatus()
+    public SyncStatusDto startDeltaSync() {
+        acquire();
+        try {
+            executor.execute(() -> {
+                try {
+                    sync(loadCheckpoint());
+                } catch (RuntimeException e) {
+                    // Already recorded on the checkpoint; the next run resumes from it
+                    logger.warn("IGDB delta sync did not complete: {}", e.getMessage());
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return getStatus();
+    }
+
+    private void acquire() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("An IGDB delta sync is already running");
+        }
+    }
+
+    public SyncStatusDto getStatus() {
+        return toStatus(loadCheckpoint());
+    }
+
+    private SyncCheckpointEntity sync(SyncCheckpointEntity checkpoint) {
+        logger.info("=== IGDB DELTA SYNC since updated_at={} id={} ===",
+                checkpoint.getLastUpdatedAt(), checkpoint.getLastExternalId());
+        Instant started = Instant.now();
+        checkpoint.setLastRunStartedAt(started);
+        checkpoint.setLastRunFinishedAt(null);
+        checkpoint.setLastRunStatus(SyncCheckpointEntity.STATUS_RUNNING);
+        checkpoint.setLastError(null);
+        checkpoint = checkpointRepository.save(checkpoint);
+
+        AtomicLong changed = new AtomicLong();
+        try {
+            while (true) {
+                // 1. Records sharing the checkpoint timestamp, in id order
+                List<IGDBGameResponseDto> ties;
+                do {
+                    ties = igdbClient.fetchGames(DELTA_FIELDS
+                            + " where updated_at = " + checkpoint.getLastUpdatedAt()
+                            + " & id > " + checkpoint.getLastExternalId() + ";"
+                            + " sort id asc; limit " + pageSize + ";");
+                    if (!ties.isEmpty()) {
+                        savePage(ties, changed);
+                        checkpoint.setLastExternalId(ties.get(ties.size() - 1).getId());
+                        checkpoint = checkpointRepository.save(checkpoint);
+                    }
+                } while (ties.size() == pageSize);
+
+                // 2. Records strictly newer than the checkpoint timestamp
+                List<IGDBGameResponseDto> page = igdbClient.fetchGames(DELTA_FIELDS
+                        + " where updated_at > " + checkpoint.getLastUpdatedAt() + ";"
+                        + " sort updated_at asc; limit " + pageSize + ";");
+                if (page.isEmpty()) {
+                    break;
+                }
+                long newest = updatedAtOf(page.get(page.size() - 1));
+                if (page.size() < pageSize) {
+                    savePage(page, changed);
+                    checkpoint.setLastUpdatedAt(newest);
+                    checkpoint.setLastExternalId(page.stream()
+                            .filter(g -> updatedAtOf(g) == newest)
+                            .mapToLong(IGDBGameResponseDto::getId)
+                            .max()
+                            .orElse(0L));
+                    checkpoint = checkpointRepository.save(checkpoint);
+                    break;
+                }
+
+                // Full page: more records at the newest timestamp may follow, so step 1 takes those
+                savePage(page.stream().filter(g -> updatedAtOf(g) < newest).toList(), changed);
+                checkpoint.setLastUpdatedAt(newest);
+                checkpoint.setLastExternalId(0L);
+                checkpoint = checkpointRepository.save(checkpoint);
+            }
+            checkpoint.setLastRunStatus(SyncCheckpointEntity.STATUS_SUCCEEDED);
+        } catch (RuntimeException e) {
+            logger.error("IGDB delta sync failed: {}", e.getMessage());
+            checkpoint.setLastRunStatus(SyncCheckpointEntity.STATUS_FAILED);
+            checkpoint.setLastError(e.getMessage());
+            throw e;
+        } finally {
+            Instant finished = Instant.now();
+            checkpoint.setLastRunFinishedAt(finished);
+            checkpoint.setLastRunDurationMs(finished.toEpochMilli() - started.toEpochMilli());
+            checkpoint.setLastRunRowsChanged(changed.get());
+            checkpoint = checkpointRepository.save(checkpoint);
+        }
+
+        logger.info("IGDB delta sync changed {} games in {} ms, now at updated_at={}",
+                changed.get(), checkpoint.getLastRunDurationMs(), checkpoint.getLastUpdatedAt());
+        logger.info("===============================");
+        return checkpoint;
+    }
+
+    // Adds the games the page's batched upsert created or updated; throws, before the caller
+    // can move the checkpoint, if any of them failed
+    private void savePage(List<IGDBGameResponseDto> igdbGames, AtomicLong changed) {
+        if (igdbGames.isEmpty()) {
+            return;
+        }
+        List<GameEntity> games = igdbGames.stream()
+                .map(gameConverter::toGameEntity)
+                .toList();
+        long failed = 0;
+        String error = null;
+        for (GameBatchResultDto result : gameService.createGameEntities(games)) {
+            switch (result.getStatus()) {
+                case GameBatchResultDto.CREATED, GameBatchResultDto.UPDATED -> changed.incrementAndGet();
+                case GameBatchResultDto.FAILED -> {
+                    failed++;
+                    error = result.getError();
+                }
+            }
+        }
+        if (failed > 0) {
+            throw new IllegalStateException(failed + " of " + games.size() + " games in the page failed to save: " + error);
+        }
+    }
+
+    private static long updatedAtOf(IGDBGameResponseDto game) {
+        return game.getUpdatedAt() != null ? game.getUpdatedAt() : 0L;
+    }
+
+    private SyncCheckpointEntity loadCheckpoint() {
+        return checkpointRepository.findById(SOURCE).orElseGet(() -> new SyncCheckpointEntity(SOURCE));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private SyncStatusDto toStatus(SyncCheckpointEntity checkpoint) {
+        Instant applied = checkpoint.getLastUpdatedAt() > 0 ? Instant.ofEpochSecond(checkpoint.getLastUpdatedAt()) : null;
+        return SyncStatusDto.builder()
+                .source(checkpoint.getSource())
+                .running(running.get())
+                .checkpoint(applied)
+                .lagSeconds(applied != null ? Instant.now().getEpochSecond() - applied.getEpochSecond() : null)
+                .lastRunStartedAt(checkpoint.getLastRunStartedAt())
+                .lastRunFinishedAt(checkpoint.getLastRunFinishedAt())
+                .lastRunDurationMs(checkpoint.getLastRunDurationMs())
+                .lastRunRowsChanged(checkpoint.getLastRunRowsChanged())
+                .lastRunStatus(checkpoint.getLastRunStatus())
+                .lastError(checkpoint.getLastError())
+                .build();
+    }
+}
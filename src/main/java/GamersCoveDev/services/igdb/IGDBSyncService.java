@@ -0,0 +1,206 @@
+package GamersCoveDev.services.igdb;
+
+import GamersCoveDev.domains.dto.GameBatchResultDto;
+import GamersCoveDev.domains.dto.IGDBGameResponseDto;
+import GamersCoveDev.domains.dto.IGDBSyncResultDto;
+import GamersCoveDev.domains.entities.GameEntity;
+import GamersCoveDev.services.GameService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pages through the whole IGDB catalog and upserts it into games. Pages are fixed
+ * offset windows over {@code sort id asc}, so several can be fetched at once; at most
+ * {@code maxInFlight} pages are being fetched or written at any time, and the shared
+ * rate limiter in {@link IGDBClient} keeps the request rate under IGDB's limit.
+ * Each page is written with one batched upsert through {@link GameService#createGameEntities}.
+ * A {@link SyncListener} sees every committed page and can stop the run; pages already in
+ * flight still finish, so everything below the listener's watermark is committed.
+ */
+@Service
+public class IGDBSyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IGDBSyncService.class);
+
+    static final String SYNC_FIELDS = "fields name,summary,cover.image_id,first_release_date,platforms.name,genres.name;";
+
+    private final IGDBClient igdbClient;
+    private final IGDBGameConverter gameConverter;
+    private final GameService gameService;
+    private final int pageSize;
+    private final int maxInFlight;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // Progress callbacks from the sync threads; implementations must be thread-safe
+    public interface SyncListener {
+        SyncListener NONE = new SyncListener() {
+        };
+
+        default boolean isCancelled() {
+            return false;
+        }
+
+        default void onPageCommitted(int offset, int fetched, List<GameBatchResultDto> results) {
+        }
+    }
+
+    public IGDBSyncService(IGDBClient igdbClient,
+                           IGDBGameConverter gameConverter,
+                           GameService gameService,
+                           @Value("${igdb.sync.page-size:500}") int pageSize,
+                           @Value("${igdb.sync.max-in-flight:4}") int maxInFlight) {
+        this.igdbClient = igdbClient;
+        this.gameConverter = gameConverter;
+        this.gameService = gameService;
+        this.pageSize = pageSize;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public IGDBSyncResultDto syncCatalog() {
+        return syncCatalog(0, SyncListener.NONE);
+    }
+
+    // Starts at startOffset (a previous run's committed watermark) instead of the first page
+    public IGDBSyncResultDto syncCatalog(int startOffset, SyncListener listener) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("An IGDB sync is already running");
+        }
+        try {
+            return runSync(startOffset, listener);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    // Adds the limit best-rated IGDB games that are not stored yet, as a single page at offset 0
+    public void importTopRated(int limit, SyncListener listener) {
+        logger.info("=== IGDB TOP RATED IMPORT of {} games ===", limit);
+        List<IGDBGameResponseDto> igdbGames = igdbClient.fetchGames(SYNC_FIELDS
+                + " where rating > 70; sort rating desc; limit " + limit + ";");
+        List<GameEntity> games = igdbGames.stream()
+                .map(gameConverter::toGameEntity)
+                .toList();
+
+        // Resolve the whole page in one existence check to avoid duplicates
+        Set<String> existing = gameService.findExistingExternalApiIds(games.stream()
+                .map(GameEntity::getExternalApiId)
+                .toList());
+        List<GameEntity> newGames = games.stream()
+                .filter(game -> !existing.contains(game.getExternalApiId()))
+                .toList();
+        List<GameBatchResultDto> results = newGames.isEmpty() ? List.of() : gameService.createGameEntities(newGames);
+        listener.onPageCommitted(0, igdbGames.size(), results);
+        logger.info("Imported {} new of {} top rated IGDB games", newGames.size(), igdbGames.size());
+        logger.info("=========================");
+    }
+
+    private IGDBSyncResultDto runSync(int startOffset, SyncListener listener) {
+        logger.info("=== IGDB CATALOG SYNC from offset {} ===", startOffset);
+        long start = System.currentTimeMillis();
+
+        AtomicLong pages = new AtomicLong();
+        AtomicLong fetched = new AtomicLong();
+        AtomicLong created = new AtomicLong();
+        AtomicLong updated = new AtomicLong();
+        AtomicLong unchanged = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        AtomicBoolean exhausted = new AtomicBoolean(false);
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        ExecutorService executor = Executors.newFixedThreadPool(maxInFlight);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            // Keep dispatching windows until some page comes back short, fails or the run is cancelled
+            for (int page = 0; !exhausted.get() && !listener.isCancelled(); page++) {
+                inFlight.acquire();
+                if (exhausted.get() || listener.isCancelled()) {
+                    inFlight.release();
+                    break;
+                }
+                int offset = startOffset + page * pageSize;
+                futures.add(executor.submit(() -> {
+                    try {
+                        List<IGDBGameResponseDto> igdbGames = fetchPage(offset);
+                        if (igdbGames.size() < pageSize) {
+                            exhausted.set(true);
+                        }
+                        pages.incrementAndGet();
+                        fetched.addAndGet(igdbGames.size());
+                        List<GameBatchResultDto> results = savePage(igdbGames);
+                        listener.onPageCommitted(offset, igdbGames.size(), results);
+                        for (GameBatchResultDto result : results) {
+                            switch (result.getStatus()) {
+                                case GameBatchResultDto.CREATED -> created.incrementAndGet();
+                                case GameBatchResultDto.UPDATED -> updated.incrementAndGet();
+                                case GameBatchResultDto.UNCHANGED -> unchanged.incrementAndGet();
+                                default -> failed.incrementAndGet();
+                            }
+                        }
+                        logger.info("Synced IGDB page at offset {} ({} games)", offset, igdbGames.size());
+                    } catch (RuntimeException e) {
+                        exhausted.set(true);
+                        throw e;
+                    } finally {
+                        inFlight.release();
+                    }
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("IGDB sync failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("IGDB sync interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        IGDBSyncResultDto result = IGDBSyncResultDto.builder()
+                .pages(pages.get())
+                .fetched(fetched.get())
+                .created(created.get())
+                .updated(updated.get())
+                .unchanged(unchanged.get())
+                .failed(failed.get())
+                .durationMs(System.currentTimeMillis() - start)
+                .build();
+        logger.info("IGDB sync finished: {}", result);
+        logger.info("=========================");
+        return result;
+    }
+
+    private List<IGDBGameResponseDto> fetchPage(int offset) {
+        return igdbClient.fetchGames(SYNC_FIELDS + " sort id asc; limit " + pageSize + "; offset " + offset + ";");
+    }
+
+    private List<GameBatchResultDto> savePage(List<IGDBGameResponseDto> igdbGames) {
+        if (igdbGames.isEmpty()) {
+            return List.of();
+        }
+        List<GameEntity> games = igdbGames.stream()
+                .map(gameConverter::toGameEntity)
+                .toList();
+        return gameService.createGameEntities(games);
+    }
+}
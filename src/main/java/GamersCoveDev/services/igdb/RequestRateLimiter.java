@@ -0,0 +1,33 @@
+package GamersCoveDev.services.igdb;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces calls evenly at a fixed rate across all threads. Each caller reserves the next
+ * free slot and sleeps until it arrives, so bursts are smoothed out instead of rejected.
+ */
+final class RequestRateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeSlot = System.nanoTime();
+
+    RequestRateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+    }
+
+    void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextFreeSlot);
+            nextFreeSlot = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
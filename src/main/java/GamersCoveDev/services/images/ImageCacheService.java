@@ -0,0 +1,434 @@
+package GamersCoveDev.services.images;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache of resized cover images. Each source image is downloaded once and every
+ * {@link Size} is rendered from that download; variants are stored as JPEG under the
+ * SHA-256 of (source URL, size), so a changed cover URL simply becomes a new entry.
+ * Total size is bounded by LRU eviction; the access order lives in memory and is
+ * seeded from file modification times at startup. Cover URLs are user-supplied, so only
+ * https URLs on the allowed hosts are fetched, every redirect hop is checked the same way,
+ * and a source is rejected on its header dimensions before any pixels are decoded.
+ */
+@Service
+public class ImageCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageCacheService.class);
+
+    private static final String EXTENSION = ".jpg";
+
+    // IGDB serves the same image at fixed sizes; t_cover_big_2x (528x748) covers every variant
+    private static final String IGDB_COVER_SIZE = "/t_cover_big/";
+    private static final String IGDB_SOURCE_SIZE = "/t_cover_big_2x/";
+
+    private static final int MAX_REDIRECTS = 3;
+
+    public enum Size {
+        THUMB(120),
+        CARD(264),
+        COVER(528);
+
+        private final int width;
+
+        Size(int width) {
+            this.width = width;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public static Size fromPath(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown image size: " + value);
+            }
+        }
+    }
+
+    public record CachedImage(Path path, String hash, long length) {
+    }
+
+    // One response: the body, or where a redirect points
+    private record Fetched(byte[] body, URI redirect) {
+    }
+
+    private final RestTemplate restTemplate;
+    private final Path cacheDir;
+    private final long maxBytes;
+    private final long maxSourceBytes;
+    private final long maxSourcePixels;
+    private final Set<String> allowedHosts;
+    private final float jpegQuality;
+
+    // key -> file size, in access order; guarded by itself
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes = 0;
+
+    // One download per source URL at a time; concurrent requests wait for it
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    public ImageCacheService(@Qualifier("imageRestTemplate") RestTemplate restTemplate,
+                             @Value("${images.cache.dir:${java.io.tmpdir}/gamerscove-images}") String cacheDir,
+                             @Value("${images.cache.max-bytes:536870912}") long maxBytes,
+                             @Value("${images.cache.max-source-bytes:5242880}") long maxSourceBytes,
+                             @Value("${images.cache.max-source-pixels:16777216}") long maxSourcePixels,
+                             @Value("${images.cache.allowed-hosts:images.igdb.com,media.rawg.io}") List<String> allowedHosts,
+                             @Value("${images.cache.jpeg-quality:0.82}") float jpegQuality) {
+        this.restTemplate = restTemplate;
+        this.cacheDir = Path.of(cacheDir);
+        this.maxBytes = maxBytes;
+        this.maxSourceBytes = maxSourceBytes;
+        this.maxSourcePixels = maxSourcePixels;
+        this.allowedHosts = allowedHosts.stream()
+                .map(host -> host.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.jpegQuality = jpegQuality;
+    }
+
+    @PostConstruct
+    void loadExistingEntries() throws IOException {
+        Files.createDirectories(cacheDir);
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(cacheDir)) {
+            files = walk.filter(p -> p.getFileName().toString().endsWith(EXTENSION))
+                    .sorted(Comparator.comparingLong(ImageCacheService::lastModified))
+                    .toList();
+        }
+        synchronized (entries) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                long size = file.toFile().length();
+                entries.put(name.substring(0, name.length() - EXTENSION.length()), size);
+                totalBytes += size;
+            }
+        }
+        logger.info("Image cache at {}: {} files, {} KB", cacheDir, files.size(), totalBytes / 1024);
+        evictIfNeeded();
+    }
+
+    /**
+     * Returns the cached variant of the image, downloading and rendering it on a miss.
+     * Throws IllegalArgumentException when the URL is not an https URL on an allowed host,
+     * and IllegalStateException when the source cannot be fetched or decoded.
+     */
+    public CachedImage get(String coverImageUrl, Size size) {
+        String sourceUrl = sourceUrlFor(coverImageUrl);
+        URI source;
+        try {
+            source = URI.create(sourceUrl);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid image URL: " + sourceUrl, e);
+        }
+        if (!isAllowed(source)) {
+            throw new IllegalArgumentException("Image host not allowed: " + sourceUrl);
+        }
+        String hash = hash(sourceUrl, size);
+        CachedImage cached = lookup(hash);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<Void> download = new CompletableFuture<>();
+        CompletableFuture<Void> existing = inFlight.putIfAbsent(sourceUrl, download);
+        if (existing != null) {
+            try {
+                existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        } else {
+            try {
+                // Another request may have finished rendering since the first lookup
+                if (lookup(hash) == null) {
+                    renderAll(sourceUrl);
+                }
+                download.complete(null);
+            } catch (RuntimeException e) {
+                download.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(sourceUrl, download);
+            }
+        }
+
+        cached = lookup(hash);
+        if (cached == null) {
+            // Evicted between rendering and now; only possible with a tiny cache
+            throw new IllegalStateException("Image evicted before it could be served: " + sourceUrl);
+        }
+        return cached;
+    }
+
+    private CachedImage lookup(String hash) {
+        Long length;
+        synchronized (entries) {
+            length = entries.get(hash);
+        }
+        if (length == null) {
+            return null;
+        }
+        Path path = pathFor(hash);
+        if (!Files.exists(path)) {
+            // Removed behind our back; forget it and render again
+            forget(hash);
+            return null;
+        }
+        return new CachedImage(path, hash, length);
+    }
+
+    private void renderAll(String sourceUrl) {
+        logger.info("Fetching image {}", sourceUrl);
+        BufferedImage source = decode(download(sourceUrl), sourceUrl);
+        for (Size size : Size.values()) {
+            String hash = hash(sourceUrl, size);
+            try {
+                long length = write(resize(source, size.getWidth()), pathFor(hash));
+                synchronized (entries) {
+                    Long previous = entries.put(hash, length);
+                    totalBytes += length - (previous != null ? previous : 0L);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not store image variant " + hash, e);
+            }
+        }
+        evictIfNeeded();
+    }
+
+    // Follows redirects by hand so each hop goes through the same host check as the source URL
+    private byte[] download(String sourceUrl) {
+        try {
+            URI uri = URI.create(sourceUrl);
+            for (int redirects = 0; redirects <= MAX_REDIRECTS; redirects++) {
+                URI current = uri;
+                Fetched fetched = restTemplate.execute(current, HttpMethod.GET, null, response -> {
+                    if (response.getStatusCode().is3xxRedirection()) {
+                        URI location = response.getHeaders().getLocation();
+                        if (location == null) {
+                            throw new IllegalStateException("Redirect without a Location header: " + current);
+                        }
+                        return new Fetched(null, current.resolve(location));
+                    }
+                    try (InputStream in = response.getBody()) {
+                        byte[] bytes = in.readNBytes((int) Math.min(Integer.MAX_VALUE - 8, maxSourceBytes + 1));
+                        if (bytes.length > maxSourceBytes) {
+                            throw new IllegalStateException("Image larger than " + maxSourceBytes + " bytes: " + sourceUrl);
+                        }
+                        return new Fetched(bytes, null);
+                    }
+                });
+                if (fetched == null || fetched.redirect() == null) {
+                    if (fetched == null || fetched.body().length == 0) {
+                        throw new IllegalStateException("Empty image response: " + sourceUrl);
+                    }
+                    return fetched.body();
+                }
+                if (!isAllowed(fetched.redirect())) {
+                    throw new IllegalStateException("Image " + sourceUrl + " redirects to a host that is not allowed: "
+                            + fetched.redirect());
+                }
+                uri = fetched.redirect();
+            }
+            throw new IllegalStateException("Too many redirects fetching image " + sourceUrl);
+        } catch (RestClientException | IllegalArgumentException e) {
+            throw new IllegalStateException("Could not fetch image " + sourceUrl + ": " + e.getMessage(), e);
+        }
+    }
+
+    private boolean isAllowed(URI uri) {
+        return "https".equalsIgnoreCase(uri.getScheme())
+                && uri.getHost() != null
+                && allowedHosts.contains(uri.getHost().toLowerCase(Locale.ROOT));
+    }
+
+    // Reads the dimensions from the header first, so an oversized image is never decoded
+    private BufferedImage decode(byte[] bytes, String sourceUrl) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : Collections.emptyIterator();
+            if (!readers.hasNext()) {
+                throw new IllegalStateException("Unsupported image format: " + sourceUrl);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxSourcePixels) {
+                    throw new IllegalStateException("Image larger than " + maxSourcePixels + " pixels: " + sourceUrl);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not decode image " + sourceUrl, e);
+        }
+    }
+
+    // Never upscales; halves repeatedly before the final step so large downscales stay sharp
+    private static BufferedImage resize(BufferedImage source, int targetWidth) {
+        int width = Math.min(targetWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            BufferedImage step = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = step.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                // JPEG has no alpha; flatten transparent sources onto white
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, currentWidth, currentHeight);
+                g.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                g.dispose();
+            }
+            current = step;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    // Writes to a temp file and moves it into place, so readers never see a partial image
+    private long write(BufferedImage image, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "img", ".tmp");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+                writer.setOutput(out);
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return Files.size(target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void evictIfNeeded() {
+        List<String> evicted = new ArrayList<>();
+        synchronized (entries) {
+            Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && it.hasNext()) {
+                Map.Entry<String, Long> eldest = it.next();
+                totalBytes -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                it.remove();
+            }
+        }
+        for (String hash : evicted) {
+            try {
+                Files.deleteIfExists(pathFor(hash));
+            } catch (IOException e) {
+                logger.warn("Could not delete evicted image {}: {}", hash, e.getMessage());
+            }
+        }
+        if (!evicted.isEmpty()) {
+            logger.debug("Evicted {} cached images", evicted.size());
+        }
+    }
+
+    private void forget(String hash) {
+        synchronized (entries) {
+            Long length = entries.remove(hash);
+            if (length != null) {
+                totalBytes -= length;
+            }
+        }
+    }
+
+    // Two directory levels keep any one directory small
+    private Path pathFor(String hash) {
+        return cacheDir.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash + EXTENSION);
+    }
+
+    private static String sourceUrlFor(String coverImageUrl) {
+        String url = coverImageUrl.startsWith("//") ? "https:" + coverImageUrl : coverImageUrl;
+        if (url.contains("images.igdb.com") && url.contains(IGDB_COVER_SIZE)) {
+            url = url.replace(IGDB_COVER_SIZE, IGDB_SOURCE_SIZE);
+        }
+        return url;
+    }
+
+    private static String hash(String sourceUrl, Size size) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest((sourceUrl + "|" + size.name()).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class).lastModifiedTime().toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
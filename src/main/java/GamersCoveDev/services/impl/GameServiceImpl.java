@@ -1,30 +1,89 @@
 package GamersCoveDev.services.impl;
 
+import GamersCoveDev.config.CacheConfig;
+import GamersCoveDev.domains.dto.GameBatchResultDto;
+import GamersCoveDev.domains.dto.GameCardDto;
+import GamersCoveDev.domains.dto.GameFacetsDto;
+import GamersCoveDev.domains.dto.GameFilterDto;
+import GamersCoveDev.domains.dto.GameSuggestionDto;
+import GamersCoveDev.domains.dto.PageDto;
 import GamersCoveDev.domains.entities.GameEntity;
+import GamersCoveDev.events.GamesSavedEvent;
 import GamersCoveDev.repositories.GameRepository;
+import GamersCoveDev.repositories.GameUpsertResult;
 import GamersCoveDev.services.GameService;
+import GamersCoveDev.services.search.ExternalIdBloomFilter;
+import GamersCoveDev.services.search.GameFacetIndex;
+import GamersCoveDev.services.search.GameTitleIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 
 @Service
 public class GameServiceImpl implements GameService {
 
     private static final Logger logger = LoggerFactory.getLogger(GameServiceImpl.class);
+    private static final int DEFAULT_SUGGEST_LIMIT = 10;
     private final GameRepository gameRepository;
+    private final GameTitleIndex gameTitleIndex;
+    private final GameFacetIndex gameFacetIndex;
+    private final ExternalIdBloomFilter externalIdFilter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int batchChunkSize;
 
-    public GameServiceImpl(GameRepository gameRepository) {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public GameServiceImpl(GameRepository gameRepository,
+                           GameTitleIndex gameTitleIndex,
+                           GameFacetIndex gameFacetIndex,
+                           ExternalIdBloomFilter externalIdFilter,
+                           ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${games.page.default-size:20}") int defaultPageSize,
+                           @Value("${games.page.max-size:100}") int maxPageSize,
+                           @Value("${games.batch.chunk-size:500}") int batchChunkSize) {
         this.gameRepository = gameRepository;
+        this.gameTitleIndex = gameTitleIndex;
+        this.gameFacetIndex = gameFacetIndex;
+        this.externalIdFilter = externalIdFilter;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.batchChunkSize = batchChunkSize;
     }
 
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional
     public GameEntity createGameEntity(GameEntity gameEntity) {
         try {
             logger.info("=== CREATE GAME REQUEST ===");
@@ -42,38 +101,21 @@ public class GameServiceImpl implements GameService {
                 logger.info("Genres: {}", String.join(", ", gameEntity.getGenres()));
             }
 
-            // Check if game with the same externalApiId already exists
-            Optional<GameEntity> existingGame = gameRepository.findByExternalApiId(gameEntity.getExternalApiId());
-            if (existingGame.isPresent()) {
-                logger.info("Game with external API ID {} already exists. Updating...", gameEntity.getExternalApiId());
-                GameEntity existing = existingGame.get();
-                existing.setTitle(gameEntity.getTitle());
-                existing.setDescription(gameEntity.getDescription());
-                existing.setCoverImageUrl(gameEntity.getCoverImageUrl());
-                existing.setReleaseDate(gameEntity.getReleaseDate());
-                existing.setPlatforms(gameEntity.getPlatforms());
-                existing.setGenres(gameEntity.getGenres());
-                
-                GameEntity updatedGame = gameRepository.save(existing);
-                logger.info("Game updated successfully with ID: {}", updatedGame.getId());
-                logger.info("============================");
-                return updatedGame;
-            } else {
-                // Create new game
-                GameEntity newGame = new GameEntity();
-                newGame.setExternalApiId(gameEntity.getExternalApiId());
-                newGame.setTitle(gameEntity.getTitle());
-                newGame.setDescription(gameEntity.getDescription());
-                newGame.setCoverImageUrl(gameEntity.getCoverImageUrl());
-                newGame.setReleaseDate(gameEntity.getReleaseDate());
-                newGame.setPlatforms(gameEntity.getPlatforms());
-                newGame.setGenres(gameEntity.getGenres());
-                
-                GameEntity savedGame = gameRepository.save(newGame);
-                logger.info("Game created successfully with ID: {}", savedGame.getId());
-                logger.info("============================");
-                return savedGame;
+            // Single INSERT ... ON CONFLICT DO UPDATE: no read-before-write, no race on external_api_id
+            GameUpsertResult result = gameRepository.upsert(gameEntity);
+            GameEntity savedGame = result.game();
+            if (result.changed()) {
+                eventPublisher.publishEvent(new GamesSavedEvent(List.of(savedGame)));
+            }
+            switch (result.outcome()) {
+                case INSERTED -> logger.info("Game created successfully with ID: {}", savedGame.getId());
+                case UPDATED -> logger.info("Game with external API ID {} already existed, updated ID: {}",
+                        savedGame.getExternalApiId(), savedGame.getId());
+                case UNCHANGED -> logger.info("Game with external API ID {} already up to date, ID: {}",
+                        savedGame.getExternalApiId(), savedGame.getId());
             }
+            logger.info("============================");
+            return savedGame;
         } catch (Exception e) {
             logger.error("Error in createGameEntity: {}", e.getMessage(), e);
             throw e;
@@ -81,6 +123,112 @@ public class GameServiceImpl implements GameService {
     }
 
     @Override
+    public List<GameBatchResultDto> createGameEntities(List<GameEntity> gameEntities) {
+        logger.info("=== BATCH CREATE {} GAMES ===", gameEntities.size());
+        long start = System.currentTimeMillis();
+
+        GameBatchResultDto[] results = new GameBatchResultDto[gameEntities.size()];
+        List<Integer> pending = new ArrayList<>();
+        Set<String> seenExternalIds = new HashSet<>();
+        for (int i = 0; i < gameEntities.size(); i++) {
+            GameEntity game = gameEntities.get(i);
+            String error = validateForBatch(game);
+            if (error == null && !seenExternalIds.add(game.getExternalApiId())) {
+                error = "Duplicate externalApiId in batch";
+            }
+            if (error != null) {
+                results[i] = failedResult(i, game.getExternalApiId(), error, false);
+            } else {
+                pending.add(i);
+            }
+        }
+
+        for (int from = 0; from < pending.size(); from += batchChunkSize) {
+            List<Integer> chunk = pending.subList(from, Math.min(from + batchChunkSize, pending.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> saveChunk(gameEntities, chunk, results));
+            } catch (Exception e) {
+                logger.error("Batch chunk of {} games failed: {}", chunk.size(), e.getMessage());
+                boolean retryable = isTransient(e);
+                for (int index : chunk) {
+                    results[index] = failedResult(index, gameEntities.get(index).getExternalApiId(), e.getMessage(),
+                            retryable);
+                }
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        logger.info("Batch of {} games finished in {} ms", gameEntities.size(), elapsed);
+        logger.info("============================");
+        return Arrays.asList(results);
+    }
+
+    // Runs inside one transaction as a single multi-row upsert statement
+    private void saveChunk(List<GameEntity> gameEntities, List<Integer> chunk, GameBatchResultDto[] results) {
+        List<GameEntity> games = chunk.stream()
+                .map(gameEntities::get)
+                .toList();
+        List<GameUpsertResult> upserted = gameRepository.upsertAll(games);
+
+        List<GameEntity> saved = new ArrayList<>(upserted.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            int index = chunk.get(i);
+            GameUpsertResult result = upserted.get(i);
+            if (result.changed()) {
+                saved.add(result.game());
+            }
+            results[index] = GameBatchResultDto.builder()
+                    .index(index)
+                    .externalApiId(result.game().getExternalApiId())
+                    .id(result.game().getId())
+                    .status(switch (result.outcome()) {
+                        case INSERTED -> GameBatchResultDto.CREATED;
+                        case UPDATED -> GameBatchResultDto.UPDATED;
+                        case UNCHANGED -> GameBatchResultDto.UNCHANGED;
+                    })
+                    .build();
+        }
+        if (!saved.isEmpty()) {
+            eventPublisher.publishEvent(new GamesSavedEvent(saved));
+        }
+    }
+
+    private String validateForBatch(GameEntity game) {
+        if (game.getExternalApiId() == null || game.getExternalApiId().isBlank()) {
+            return "externalApiId is required";
+        }
+        if (game.getExternalApiId().length() > 100) {
+            return "externalApiId must be at most 100 characters";
+        }
+        if (game.getTitle() == null || game.getTitle().isBlank()) {
+            return "title is required";
+        }
+        if (game.getTitle().length() > 200) {
+            return "title must be at most 200 characters";
+        }
+        return null;
+    }
+
+    // Lock timeouts, deadlocks and lost connections; a constraint or data error would fail again
+    private static boolean isTransient(Exception e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof TransactionException;
+    }
+
+    private GameBatchResultDto failedResult(int index, String externalApiId, String error, boolean retryable) {
+        return GameBatchResultDto.builder()
+                .index(index)
+                .externalApiId(externalApiId)
+                .status(GameBatchResultDto.FAILED)
+                .error(error)
+                .retryable(retryable)
+                .build();
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.GAMES_BY_ID, key = "#id")
     public Optional<GameEntity> findById(Long id) {
         logger.info("=== FIND GAME BY ID ===");
         logger.info("Searching for game with ID: {}", id);
@@ -97,6 +245,7 @@ public class GameServiceImpl implements GameService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.GAMES_BY_TITLE, key = "#title")
     public Optional<GameEntity> findTitle(String title) {
         logger.info("=== FIND GAME BY TITLE ===");
         logger.info("Searching for game with title: {}", title);
@@ -113,17 +262,64 @@ public class GameServiceImpl implements GameService {
     }
 
     @Override
-    public List<GameEntity> findAll() {
-        logger.info("=== FIND ALL GAMES ===");
+    @Transactional(readOnly = true)
+    public long forEachGame(Consumer<GameEntity> consumer) {
+        logger.info("=== STREAM ALL GAMES ===");
+        long count = 0;
+        try (Stream<GameEntity> games = gameRepository.streamAllOrderedById()) {
+            for (GameEntity game : (Iterable<GameEntity>) games::iterator) {
+                consumer.accept(game);
+                // Detach each row so the persistence context does not grow with the catalog
+                entityManager.detach(game);
+                count++;
+            }
+        }
+        logger.info("Streamed {} games", count);
+        logger.info("========================");
+        return count;
+    }
 
-        List<GameEntity> games = (List<GameEntity>) gameRepository.findAll();
-        logger.info("Found {} games in database", games.size());
+    @Override
+    public PageDto<GameEntity> findPage(GameFilterDto filter, String cursor, Integer limit) {
+        logger.info("=== FIND GAMES PAGE ===");
+        long afterId = decodeCursor(cursor);
+        int pageSize = resolvePageSize(limit);
+
+        // Fetch one extra row so we know whether another page exists
+        List<GameEntity> games;
+        if (filter != null && filter.hasCriteria()) {
+            logger.info("Filtering games by {}", filter);
+            games = gameRepository.findFiltered(filter, afterId, pageSize + 1);
+        } else {
+            games = gameRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1));
+        }
+        logger.info("Found {} games after ID {}", Math.min(games.size(), pageSize), afterId);
         logger.info("======================");
 
-        return games;
+        return toPage(games, pageSize, GameEntity::getId);
     }
 
     @Override
+    public PageDto<GameCardDto> findCardPage(GameFilterDto filter, String cursor, Integer limit) {
+        logger.info("=== FIND GAME CARDS PAGE ===");
+        long afterId = decodeCursor(cursor);
+        int pageSize = resolvePageSize(limit);
+
+        List<GameCardDto> cards;
+        if (filter != null && filter.hasCriteria()) {
+            logger.info("Filtering game cards by {}", filter);
+            cards = gameRepository.findFilteredCards(filter, afterId, pageSize + 1);
+        } else {
+            cards = gameRepository.findCardsByIdGreaterThan(afterId, Limit.of(pageSize + 1));
+        }
+        logger.info("Found {} game cards after ID {}", Math.min(cards.size(), pageSize), afterId);
+        logger.info("============================");
+
+        return toPage(cards, pageSize, GameCardDto::getId);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.GAMES_BY_EXTERNAL_API_ID, key = "#externalApiId")
     public Optional<GameEntity> findByExternalApiId(String externalApiId) {
         logger.info("=== FIND GAME BY EXTERNAL API ID ===");
         logger.info("Searching for game with external API ID: {}", externalApiId);
@@ -140,19 +336,106 @@ public class GameServiceImpl implements GameService {
     }
 
     @Override
-    public List<GameEntity> searchGames(String searchTerm) {
+    public Set<String> findExistingExternalApiIds(Collection<String> externalApiIds) {
+        // Ids the Bloom filter has never seen are definitely new; only the rest need the database
+        List<String> candidates = externalApiIds.stream()
+                .filter(externalIdFilter::mightContain)
+                .distinct()
+                .toList();
+        logger.info("{} of {} external ids need a database existence check", candidates.size(), externalApiIds.size());
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        return gameRepository.findExternalApiIdsIn(candidates);
+    }
+
+    @Override
+    public PageDto<GameEntity> searchGames(String searchTerm, String cursor, Integer limit) {
+        return rankedSearch(searchTerm, cursor, limit, gameRepository::searchByTitleRanked, GameEntity::getId);
+    }
+
+    @Override
+    public PageDto<GameCardDto> searchGameCards(String searchTerm, String cursor, Integer limit) {
+        return rankedSearch(searchTerm, cursor, limit, gameRepository::searchCardsByTitleRanked, GameCardDto::getId);
+    }
+
+    // Both searchByTitleRanked variants take the same arguments
+    @FunctionalInterface
+    private interface RankedQuery<T> {
+        List<T> run(String term, String pattern, String prefixPattern, long afterId, int limit);
+    }
+
+    private <T> PageDto<T> rankedSearch(String searchTerm, String cursor, Integer limit, RankedQuery<T> query,
+                                        Function<T, Long> idOf) {
         logger.info("=== SEARCH GAMES ===");
         logger.info("Searching for games with term: {}", searchTerm);
 
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
-            logger.info("Empty search term, returning empty list");
-            return List.of();
+            logger.info("Empty search term, returning empty page");
+            return new PageDto<>(List.of(), null);
         }
 
-        List<GameEntity> games = gameRepository.findByTitleContainingIgnoreCase(searchTerm.trim());
-        logger.info("Found {} games matching search term: {}", games.size(), searchTerm);
+        String term = searchTerm.trim();
+        String escaped = escapeLikePattern(term);
+        long afterId = decodeCursor(cursor);
+        int pageSize = resolvePageSize(limit);
+
+        // The cursor is still the last game's id; the query re-ranks it to find where the page continues
+        List<T> games = query.run(term, "%" + escaped + "%", escaped + "%", afterId, pageSize + 1);
+        logger.info("Found {} games matching search term: {}", Math.min(games.size(), pageSize), searchTerm);
         logger.info("====================");
 
-        return games;
+        return toPage(games, pageSize, idOf);
+    }
+
+    // Treat user input literally inside ILIKE patterns
+    private String escapeLikePattern(String term) {
+        return term.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    @Override
+    public List<GameSuggestionDto> suggestTitles(String query, Integer limit) {
+        // Served from the in-memory title index, no database round trip
+        int suggestLimit = limit == null ? DEFAULT_SUGGEST_LIMIT : resolvePageSize(limit);
+        return gameTitleIndex.suggest(query, suggestLimit);
+    }
+
+    @Override
+    public GameFacetsDto getFacets(GameFilterDto filter) {
+        // Counted from the in-memory facet bitsets, no database round trip
+        return gameFacetIndex.facets(filter);
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return defaultPageSize;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        return Math.min(limit, maxPageSize);
+    }
+
+    // Cursors are the id of the last game on the previous page
+    private long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(cursor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static <T> PageDto<T> toPage(List<T> rows, int pageSize, Function<T, Long> idOf) {
+        if (rows.size() <= pageSize) {
+            return new PageDto<>(rows, null);
+        }
+        List<T> page = rows.subList(0, pageSize);
+        String nextCursor = String.valueOf(idOf.apply(page.get(pageSize - 1)));
+        return new PageDto<>(page, nextCursor);
     }
 }
\ No newline at end of file
@@ -1,15 +1,37 @@
 package GamersCoveDev.services.impl;
 
+import GamersCoveDev.domains.dto.PageDto;
+import GamersCoveDev.domains.dto.RatingStatsDto;
+import GamersCoveDev.domains.dto.ReviewSummaryDto;
 import GamersCoveDev.domains.entities.ReviewEntity;
+import GamersCoveDev.events.ReviewChangedEvent;
+import GamersCoveDev.repositories.GameRatingAggregate;
+import GamersCoveDev.repositories.GameRepository;
+import GamersCoveDev.repositories.ReviewCursor;
+import GamersCoveDev.repositories.ReviewListVersion;
 import GamersCoveDev.repositories.ReviewRepository;
+import GamersCoveDev.repositories.ReviewSort;
 import GamersCoveDev.services.ReviewService;
+import GamersCoveDev.services.reviews.TopReviewsCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -17,9 +39,36 @@ public class ReviewServiceImpl implements ReviewService {
 
     private static final Logger logger = LoggerFactory.getLogger(ReviewServiceImpl.class);
     private final ReviewRepository reviewRepository;
+    private final GameRepository gameRepository;
+    private final TopReviewsCache topReviewsCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int recentDays;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int snippetLength;
+    private final int repairBatchSize;
 
-    public ReviewServiceImpl(ReviewRepository reviewRepository) {
+    public ReviewServiceImpl(ReviewRepository reviewRepository,
+                             GameRepository gameRepository,
+                             TopReviewsCache topReviewsCache,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${reviews.stats.recent-days:30}") int recentDays,
+                             @Value("${reviews.page.default-size:20}") int defaultPageSize,
+                             @Value("${reviews.page.max-size:100}") int maxPageSize,
+                             @Value("${reviews.summaries.snippet-length:200}") int snippetLength,
+                             @Value("${reviews.rating-repair.batch-size:1000}") int repairBatchSize) {
         this.reviewRepository = reviewRepository;
+        this.gameRepository = gameRepository;
+        this.topReviewsCache = topReviewsCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.recentDays = recentDays;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.snippetLength = snippetLength;
+        this.repairBatchSize = repairBatchSize;
     }
 
     @Override
@@ -29,6 +78,8 @@ public class ReviewServiceImpl implements ReviewService {
 
         // Validation happens automatically via @Valid annotation
         ReviewEntity savedReview = reviewRepository.save(review);
+        gameRepository.applyRating(savedReview.getGameId(), savedReview.getRating(), 1);
+        eventPublisher.publishEvent(ReviewChangedEvent.created(savedReview));
 
         logger.info("Review created with ID: {}", savedReview.getId());
         return savedReview;
@@ -43,51 +94,172 @@ public class ReviewServiceImpl implements ReviewService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ReviewEntity> findByGameId(Long gameId) {
-        logger.info("Finding reviews for game ID: {}", gameId);
-        return reviewRepository.findByGameId(gameId);
+    public PageDto<ReviewEntity> findPageByGameId(Long gameId, String sort, String cursor, Integer limit) {
+        ReviewSort reviewSort = ReviewSort.fromParam(sort);
+        int pageSize = resolvePageSize(limit);
+        logger.info("Finding {} reviews for game ID: {}, sort {}", pageSize, gameId, reviewSort);
+        List<ReviewEntity> rows = reviewRepository.findPageByGameId(
+                gameId, reviewSort, ReviewCursor.decode(cursor, reviewSort), pageSize + 1);
+        return toPage(rows, pageSize, reviewSort);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ReviewEntity> findByUserId(Long userId) {
-        logger.info("Finding reviews by user ID: {}", userId);
-        return reviewRepository.findByUserId(userId);
+    public ReviewListVersion getReviewListVersion(Long gameId) {
+        return reviewRepository.findListVersionByGameId(gameId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageDto<ReviewEntity> findPageByUserId(Long userId, String sort, String cursor, Integer limit) {
+        ReviewSort reviewSort = ReviewSort.fromParam(sort);
+        int pageSize = resolvePageSize(limit);
+        logger.info("Finding {} reviews by user ID: {}, sort {}", pageSize, userId, reviewSort);
+        List<ReviewEntity> rows = reviewRepository.findPageByUserId(
+                userId, reviewSort, ReviewCursor.decode(cursor, reviewSort), pageSize + 1);
+        return toPage(rows, pageSize, reviewSort);
     }
 
     @Override
     public ReviewEntity updateReview(ReviewEntity review) {
         logger.info("Updating review ID: {}", review.getId());
 
-        if (review.getId() == null || !reviewRepository.existsById(review.getId())) {
+        // Row lock until commit, so a concurrent edit reads the old values only after this one is applied
+        ReviewEntity existing = review.getId() == null ? null : reviewRepository.findByIdForUpdate(review.getId()).orElse(null);
+        if (existing == null) {
             throw new IllegalArgumentException("Review does not exist");
         }
+        // Read before save, which merges the new values into this same managed instance
+        Long oldGameId = existing.getGameId();
+        int oldRating = existing.getRating();
+        // created_at is a keyset sort key and NOT NULL (V8); clients can neither clear nor move it
+        review.setCreatedAt(existing.getCreatedAt());
 
-        return reviewRepository.save(review);
+        ReviewEntity savedReview = reviewRepository.save(review);
+
+        // Move the rating out of its old bucket and into the new one (possibly on another game)
+        if (!oldGameId.equals(savedReview.getGameId()) || oldRating != savedReview.getRating()) {
+            gameRepository.applyRating(oldGameId, oldRating, -1);
+            gameRepository.applyRating(savedReview.getGameId(), savedReview.getRating(), 1);
+        }
+        eventPublisher.publishEvent(ReviewChangedEvent.updated(savedReview, oldGameId));
+        return savedReview;
     }
 
     @Override
     public void deleteReview(Long id) {
         logger.info("Deleting review ID: {}", id);
-        reviewRepository.deleteById(id);
+        // Locked like updateReview, so racing deletes and edits take the rating out only once
+        reviewRepository.findByIdForUpdate(id).ifPresent(review -> {
+            reviewRepository.delete(review);
+            gameRepository.applyRating(review.getGameId(), review.getRating(), -1);
+            eventPublisher.publishEvent(ReviewChangedEvent.deleted(review));
+        });
     }
 
     @Override
     @Transactional(readOnly = true)
     public Double getAverageRatingForGame(Long gameId) {
-        logger.info("Calculating average rating for game ID: {}", gameId);
+        logger.info("Reading average rating for game ID: {}", gameId);
 
-        List<ReviewEntity> reviews = reviewRepository.findByGameId(gameId);
+        // One row from games instead of every review; rounded to 1 decimal place
+        return gameRepository.findRatingAggregate(gameId)
+                .map(GameRatingAggregate::average)
+                .orElse(0.0);
+    }
 
-        if (reviews.isEmpty()) {
-            return 0.0;
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReviewEntity> getTopReviews(Long gameId, Integer limit) {
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
         }
+        int count = limit == null ? topReviewsCache.size() : Math.min(limit, topReviewsCache.size());
+        logger.info("Reading top {} reviews for game ID: {}", count, gameId);
+        return topReviewsCache.get(gameId, count);
+    }
 
-        double average = reviews.stream()
-                .mapToInt(ReviewEntity::getRating)
-                .average()
-                .orElse(0.0);
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReviewSummaryDto> getSummaries(List<Long> gameIds) {
+        Set<Long> distinctIds = gameIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        logger.info("Building review summaries for {} games", distinctIds.size());
+
+        Map<Long, ReviewSummaryDto> byGameId = reviewRepository.findSummaries(distinctIds, snippetLength).stream()
+                .collect(Collectors.toMap(ReviewSummaryDto::getGameId, Function.identity()));
+        // Back in request order; unknown games are left out
+        return distinctIds.stream()
+                .map(byGameId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RatingStatsDto> getRatingStats(Long gameId) {
+        logger.info("Reading rating stats for game ID: {}", gameId);
+
+        return gameRepository.findRatingAggregate(gameId).map(aggregate -> RatingStatsDto.builder()
+                .gameId(gameId)
+                .totalRatings(aggregate.ratingCount())
+                .averageRating(aggregate.average())
+                .medianRating(aggregate.median())
+                .histogram(aggregate.histogram())
+                .recentRatings(reviewRepository.countByGameIdAndCreatedAtAfter(
+                        gameId, LocalDateTime.now().minusDays(recentDays)))
+                .recentDays(recentDays)
+                .build());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int repairRatingAggregates() {
+        int repaired = 0;
+        Long afterId = 0L;
+        while (true) {
+            Long from = afterId;
+            // One transaction per batch: lock the game rows, then recompute in a second statement, whose
+            // snapshot includes every review written before the locks were granted; later writers queue
+            // behind the locks and apply their delta to the corrected totals
+            RepairBatch batch = transactionTemplate.execute(status -> {
+                List<Long> gameIds = gameRepository.lockIdsAfter(from, repairBatchSize);
+                return new RepairBatch(gameIds,
+                        gameIds.isEmpty() ? 0 : gameRepository.repairRatingAggregates(gameIds));
+            });
+            if (batch == null || batch.gameIds().isEmpty()) {
+                break;
+            }
+            repaired += batch.repaired();
+            afterId = batch.gameIds().get(batch.gameIds().size() - 1);
+        }
+        if (repaired > 0) {
+            logger.warn("Repaired rating aggregates for {} games", repaired);
+        } else {
+            logger.info("Rating aggregates verified, nothing to repair");
+        }
+        return repaired;
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return defaultPageSize;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        return Math.min(limit, maxPageSize);
+    }
+
+    private static PageDto<ReviewEntity> toPage(List<ReviewEntity> rows, int pageSize, ReviewSort sort) {
+        if (rows.size() <= pageSize) {
+            return new PageDto<>(rows, null);
+        }
+        List<ReviewEntity> page = rows.subList(0, pageSize);
+        return new PageDto<>(page, ReviewCursor.encode(page.get(pageSize - 1), sort));
+    }
 
-        return Math.round(average * 10.0) / 10.0; // Round to 1 decimal place
+    private record RepairBatch(List<Long> gameIds, int repaired) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,170 @@
+package GamersCoveDev.services.jobs;
+
+import GamersCoveDev.domains.dto.GameBatchResultDto;
+import GamersCoveDev.domains.dto.ImportJobDto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One import run and its live counters. Pages can commit out of order, so the resume
+ * watermark only advances over a contiguous run of committed pages. A page counts as
+ * committed once every row was attempted: rows that failed for good (invalid data) are
+ * tallied as failed but do not hold the watermark, while a retryable failure keeps it
+ * below the page so a resumed job fetches that page again.
+ */
+class ImportJob {
+
+    static final String QUEUED = "QUEUED";
+    static final String RUNNING = "RUNNING";
+    static final String SUCCEEDED = "SUCCEEDED";
+    static final String FAILED = "FAILED";
+    static final String CANCELLED = "CANCELLED";
+
+    // Full catalog, resumable from its committed offset
+    static final String CATALOG = "CATALOG";
+    // The best-rated games that are not stored yet, in one page
+    static final String TOP_RATED = "TOP_RATED";
+
+    private final String id;
+    private final String kind;
+    private final int startOffset;
+    private final int pageSize;
+    private final Instant submittedAt = Instant.now();
+
+    private final AtomicLong pages = new AtomicLong();
+    private final AtomicLong fetched = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+    private final AtomicLong unchanged = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    // Offsets committed above the watermark, waiting for the gap below them to fill
+    private final TreeSet<Integer> committedAhead = new TreeSet<>();
+    private int committedOffset;
+
+    private volatile String status = QUEUED;
+    private volatile boolean cancelRequested;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+    private volatile Future<?> future;
+
+    ImportJob(String id, String kind, int startOffset, int pageSize) {
+        this.id = id;
+        this.kind = kind;
+        this.startOffset = startOffset;
+        this.pageSize = pageSize;
+        this.committedOffset = startOffset;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    String getKind() {
+        return kind;
+    }
+
+    int getStartOffset() {
+        return startOffset;
+    }
+
+    Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    String getStatus() {
+        return status;
+    }
+
+    boolean isFinished() {
+        return SUCCEEDED.equals(status) || FAILED.equals(status) || CANCELLED.equals(status);
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    Future<?> getFuture() {
+        return future;
+    }
+
+    void requestCancel() {
+        cancelRequested = true;
+    }
+
+    boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    void recordPage(int offset, int fetchedCount, List<GameBatchResultDto> results) {
+        pages.incrementAndGet();
+        fetched.addAndGet(fetchedCount);
+        boolean committed = true;
+        for (GameBatchResultDto result : results) {
+            switch (result.getStatus()) {
+                case GameBatchResultDto.CREATED -> created.incrementAndGet();
+                case GameBatchResultDto.UPDATED -> updated.incrementAndGet();
+                case GameBatchResultDto.UNCHANGED -> unchanged.incrementAndGet();
+                default -> {
+                    failed.incrementAndGet();
+                    committed &= !result.isRetryable();
+                }
+            }
+        }
+        if (!committed) {
+            // A transient error; a resumed job has to fetch this page again
+            return;
+        }
+        synchronized (this) {
+            committedAhead.add(offset);
+            while (committedAhead.remove(committedOffset)) {
+                committedOffset += pageSize;
+            }
+        }
+    }
+
+    void markRunning() {
+        startedAt = Instant.now();
+        status = RUNNING;
+    }
+
+    void markFinished(String finalStatus, String errorMessage) {
+        error = errorMessage;
+        finishedAt = Instant.now();
+        status = finalStatus;
+    }
+
+    synchronized int getCommittedOffset() {
+        return committedOffset;
+    }
+
+    ImportJobDto toDto() {
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        long elapsedMs = startedAt != null ? Duration.between(startedAt, end).toMillis() : 0;
+        long fetchedCount = fetched.get();
+        return ImportJobDto.builder()
+                .id(id)
+                .kind(kind)
+                .status(status)
+                .startOffset(startOffset)
+                .committedOffset(getCommittedOffset())
+                .pages(pages.get())
+                .fetched(fetchedCount)
+                .created(created.get())
+                .updated(updated.get())
+                .unchanged(unchanged.get())
+                .failed(failed.get())
+                .gamesPerSecond(elapsedMs > 0 ? fetchedCount * 1000.0 / elapsedMs : 0)
+                .submittedAt(submittedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .error(error)
+                .build();
+    }
+}
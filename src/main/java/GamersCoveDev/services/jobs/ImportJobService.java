@@ -0,0 +1,225 @@
+package GamersCoveDev.services.jobs;
+
+import GamersCoveDev.domains.dto.GameBatchResultDto;
+import GamersCoveDev.domains.dto.ImportJobDto;
+import GamersCoveDev.services.igdb.IGDBSyncService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs IGDB imports (the full catalog, or just the top-rated games) in the background. Submitting returns a job id at once; a
+ * small fixed pool with a bounded queue runs the jobs, and a full queue rejects new ones
+ * instead of piling them up. Progress can be polled or streamed as SSE "progress" events.
+ * Jobs live in memory only: after a restart, resubmit with the last reported committedOffset.
+ */
+@Service
+public class ImportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportJobService.class);
+
+    private final IGDBSyncService syncService;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final int retainedJobs;
+    private final long sseTimeoutMillis;
+
+    public ImportJobService(IGDBSyncService syncService,
+                            @Value("${games.import-jobs.max-concurrent:1}") int maxConcurrent,
+                            @Value("${games.import-jobs.queue-capacity:10}") int queueCapacity,
+                            @Value("${games.import-jobs.retained:50}") int retainedJobs,
+                            @Value("${games.import-jobs.sse-timeout:30m}") Duration sseTimeout) {
+        this.syncService = syncService;
+        this.retainedJobs = retainedJobs;
+        this.sseTimeoutMillis = sseTimeout.toMillis();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "import-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public ImportJobDto submit(int startOffset) {
+        if (startOffset < 0) {
+            throw new IllegalArgumentException("startOffset must not be negative");
+        }
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), ImportJob.CATALOG, startOffset,
+                syncService.getPageSize());
+        return enqueue(job, listener -> syncService.syncCatalog(startOffset, listener));
+    }
+
+    public ImportJobDto submitTopRated(int limit) {
+        if (limit <= 0 || limit > syncService.getPageSize()) {
+            throw new IllegalArgumentException("limit must be between 1 and " + syncService.getPageSize());
+        }
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), ImportJob.TOP_RATED, 0, limit);
+        return enqueue(job, listener -> syncService.importTopRated(limit, listener));
+    }
+
+    private ImportJobDto enqueue(ImportJob job, Consumer<IGDBSyncService.SyncListener> work) {
+        jobs.put(job.getId(), job);
+        try {
+            job.setFuture(executor.submit(() -> run(job, work)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new IllegalStateException("Import job queue is full, try again later");
+        }
+        evictFinishedJobs();
+        logger.info("Submitted {} import job {} from offset {}", job.getKind(), job.getId(), job.getStartOffset());
+        return job.toDto();
+    }
+
+    // A new job picking up where a failed or cancelled one stopped committing
+    public Optional<ImportJobDto> resume(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+        if (!ImportJob.FAILED.equals(job.getStatus()) && !ImportJob.CANCELLED.equals(job.getStatus())) {
+            throw new IllegalArgumentException("Only failed or cancelled jobs can be resumed");
+        }
+        if (!ImportJob.CATALOG.equals(job.getKind())) {
+            throw new IllegalArgumentException("Only catalog jobs can be resumed; submit a new one instead");
+        }
+        return Optional.of(submit(job.getCommittedOffset()));
+    }
+
+    public Optional<ImportJobDto> cancel(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+        job.requestCancel();
+        // A queued job never starts; a running one stops dispatching and lets in-flight pages commit
+        if (ImportJob.QUEUED.equals(job.getStatus()) && job.getFuture() != null && job.getFuture().cancel(false)) {
+            job.markFinished(ImportJob.CANCELLED, null);
+            publish(job);
+        }
+        logger.info("Cancellation requested for import job {}", jobId);
+        return Optional.of(job.toDto());
+    }
+
+    public Optional<ImportJobDto> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(ImportJob::toDto);
+    }
+
+    public List<ImportJobDto> list() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(ImportJob::getSubmittedAt).reversed())
+                .map(ImportJob::toDto)
+                .toList();
+    }
+
+    public Optional<SseEmitter> subscribe(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        List<SseEmitter> jobEmitters = emitters.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>());
+        jobEmitters.add(emitter);
+        emitter.onCompletion(() -> jobEmitters.remove(emitter));
+        emitter.onTimeout(() -> jobEmitters.remove(emitter));
+        emitter.onError(e -> jobEmitters.remove(emitter));
+
+        // Current state first, so late subscribers do not wait for the next page
+        send(emitter, job);
+        if (job.isFinished()) {
+            emitter.complete();
+        }
+        return Optional.of(emitter);
+    }
+
+    private void run(ImportJob job, Consumer<IGDBSyncService.SyncListener> work) {
+        if (job.isCancelRequested()) {
+            job.markFinished(ImportJob.CANCELLED, null);
+            publish(job);
+            return;
+        }
+        job.markRunning();
+        publish(job);
+        try {
+            work.accept(new IGDBSyncService.SyncListener() {
+                @Override
+                public boolean isCancelled() {
+                    return job.isCancelRequested();
+                }
+
+                @Override
+                public void onPageCommitted(int offset, int fetched, List<GameBatchResultDto> results) {
+                    job.recordPage(offset, fetched, results);
+                    publish(job);
+                }
+            });
+            job.markFinished(job.isCancelRequested() ? ImportJob.CANCELLED : ImportJob.SUCCEEDED, null);
+        } catch (RuntimeException e) {
+            logger.error("Import job {} failed: {}", job.getId(), e.getMessage());
+            job.markFinished(ImportJob.FAILED, e.getMessage());
+        }
+        logger.info("Import job {} finished: {}", job.getId(), job.toDto());
+        publish(job);
+    }
+
+    private void publish(ImportJob job) {
+        List<SseEmitter> jobEmitters = emitters.getOrDefault(job.getId(), List.of());
+        for (SseEmitter emitter : jobEmitters) {
+            send(emitter, job);
+            if (job.isFinished()) {
+                emitter.complete();
+            }
+        }
+        if (job.isFinished()) {
+            emitters.remove(job.getId());
+        }
+    }
+
+    private static void send(SseEmitter emitter, ImportJob job) {
+        try {
+            emitter.send(SseEmitter.event().name("progress").data(job.toDto()));
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the completion callbacks drop the emitter
+            emitter.completeWithError(e);
+        }
+    }
+
+    // Keep the registry bounded: drop the oldest finished jobs beyond the retention limit
+    private void evictFinishedJobs() {
+        List<ImportJob> finished = jobs.values().stream()
+                .filter(ImportJob::isFinished)
+                .sorted(Comparator.comparing(ImportJob::getSubmittedAt))
+                .toList();
+        for (int i = 0; i < finished.size() - retainedJobs; i++) {
+            jobs.remove(finished.get(i).getId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(ImportJob::requestCancel);
+        executor.shutdown();
+    }
+}
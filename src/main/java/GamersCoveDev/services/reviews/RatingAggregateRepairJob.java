@@ -0,0 +1,32 @@
+package GamersCoveDev.services.reviews;
+
+import GamersCoveDev.services.ReviewService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Periodically recomputes the incrementally maintained rating totals; off unless reviews.rating-repair.enabled=true
+@Component
+@ConditionalOnProperty(name = "reviews.rating-repair.enabled", havingValue = "true")
+public class RatingAggregateRepairJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RatingAggregateRepairJob.class);
+
+    private final ReviewService reviewService;
+
+    public RatingAggregateRepairJob(ReviewService reviewService) {
+        this.reviewService = reviewService;
+    }
+
+    @Scheduled(initialDelayString = "${reviews.rating-repair.initial-delay:PT5M}",
+            fixedDelayString = "${reviews.rating-repair.interval:PT6H}")
+    public void run() {
+        try {
+            reviewService.repairRatingAggregates();
+        } catch (RuntimeException e) {
+            logger.warn("Scheduled rating aggregate repair failed: {}", e.getMessage());
+        }
+    }
+}
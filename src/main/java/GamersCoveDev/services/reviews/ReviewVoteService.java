@@ -0,0 +1,232 @@
+package GamersCoveDev.services.reviews;
+
+import GamersCoveDev.repositories.ReviewVoteRepository;
+import GamersCoveDev.repositories.ReviewVoteRepository.CounterDelta;
+import GamersCoveDev.repositories.ReviewVoteRepository.HelpfulDelta;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Likes and helpful votes with write-behind counters. Each vote is committed to its
+ * dedupe table straight away; the counter change goes into per-review LongAdders and
+ * reaches reviews.likes_count / is_helpful_count / is_not_helpful_count in the next
+ * batched flush, so a burst of clicks on one review becomes a single UPDATE. Flushes run
+ * on their own thread rather than the shared @Scheduled one, so a long catalog sync or
+ * rating repair cannot hold them back.
+ *
+ * At most one flush interval of counter changes is lost on a crash. The vote rows are
+ * not, so the startup reconciliation recounts the counters from them. This assumes one
+ * application instance writes votes; a second instance's unflushed deltas would be
+ * counted twice by a recount.
+ */
+@Service
+public class ReviewVoteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewVoteService.class);
+
+    // Pending counter changes of one review
+    private static final class PendingCounters {
+        final LongAdder likes = new LongAdder();
+        final LongAdder helpful = new LongAdder();
+        final LongAdder notHelpful = new LongAdder();
+    }
+
+    private final ReviewVoteRepository voteRepository;
+    private final boolean reconcileOnStartup;
+    private final Duration flushInterval;
+    private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "review-vote-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Voters hold the read lock from the vote write until its delta is recorded; a flush
+    // takes the write lock only to swap the map, so no delta is ever half-way in or out
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final Object flushMonitor = new Object();
+    private volatile Map<Long, PendingCounters> pending = new ConcurrentHashMap<>();
+
+    public ReviewVoteService(ReviewVoteRepository voteRepository,
+                             @Value("${reviews.votes.reconcile-on-startup:true}") boolean reconcileOnStartup,
+                             @Value("${reviews.votes.flush-interval:PT2S}") Duration flushInterval) {
+        this.voteRepository = voteRepository;
+        this.reconcileOnStartup = reconcileOnStartup;
+        this.flushInterval = flushInterval;
+    }
+
+    @PostConstruct
+    void startFlushing() {
+        long millis = flushInterval.toMillis();
+        flushScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                // An exception escaping here would cancel every later flush
+                logger.error("Vote counter flush failed: {}", e.getMessage());
+            }
+        }, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    // Each returns whether the vote changed anything; repeated clicks are no-ops
+    public boolean like(long reviewId, long userId) {
+        return recordLike(reviewId, userId, true);
+    }
+
+    public boolean unlike(long reviewId, long userId) {
+        return recordLike(reviewId, userId, false);
+    }
+
+    public boolean voteHelpful(long reviewId, long userId, boolean helpful) {
+        swapLock.readLock().lock();
+        try {
+            // Runs without a surrounding transaction, so the vote row is committed before its delta is queued
+            return addHelpful(reviewId, voteRepository.setHelpfulVote(reviewId, userId, helpful));
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    public boolean removeHelpfulVote(long reviewId, long userId) {
+        swapLock.readLock().lock();
+        try {
+            return addHelpful(reviewId, voteRepository.removeHelpfulVote(reviewId, userId));
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private boolean recordLike(long reviewId, long userId, boolean like) {
+        swapLock.readLock().lock();
+        try {
+            boolean changed = like
+                    ? voteRepository.addLike(reviewId, userId)
+                    : voteRepository.removeLike(reviewId, userId);
+            if (changed) {
+                countersOf(reviewId).likes.add(like ? 1 : -1);
+            }
+            return changed;
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private boolean addHelpful(long reviewId, HelpfulDelta delta) {
+        if (delta.equals(HelpfulDelta.NONE)) {
+            return false;
+        }
+        PendingCounters counters = countersOf(reviewId);
+        counters.helpful.add(delta.helpful());
+        counters.notHelpful.add(delta.notHelpful());
+        return true;
+    }
+
+    private PendingCounters countersOf(long reviewId) {
+        return pending.computeIfAbsent(reviewId, id -> new PendingCounters());
+    }
+
+    public void flush() {
+        synchronized (flushMonitor) {
+            Map<Long, PendingCounters> batch;
+            swapLock.writeLock().lock();
+            try {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                pending = new ConcurrentHashMap<>();
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+
+            // Sorted by id so concurrent flushes and review writes take row locks in one order
+            List<CounterDelta> deltas = new ArrayList<>(batch.size());
+            batch.forEach((reviewId, counters) -> {
+                CounterDelta delta = new CounterDelta(reviewId,
+                        counters.likes.sum(), counters.helpful.sum(), counters.notHelpful.sum());
+                if (delta.likes() != 0 || delta.helpful() != 0 || delta.notHelpful() != 0) {
+                    deltas.add(delta);
+                }
+            });
+            deltas.sort(Comparator.comparingLong(CounterDelta::reviewId));
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            try {
+                voteRepository.applyCounterDeltas(deltas);
+                logger.debug("Flushed vote counters for {} reviews", deltas.size());
+            } catch (RuntimeException e) {
+                // Put the deltas back for the next flush rather than dropping them
+                logger.warn("Vote counter flush failed, retrying {} reviews later: {}", deltas.size(), e.getMessage());
+                swapLock.readLock().lock();
+                try {
+                    for (CounterDelta delta : deltas) {
+                        PendingCounters counters = countersOf(delta.reviewId());
+                        counters.likes.add(delta.likes());
+                        counters.helpful.add(delta.helpful());
+                        counters.notHelpful.add(delta.notHelpful());
+                    }
+                } finally {
+                    swapLock.readLock().unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Recounts every review's counters from the vote tables, which covers whatever a crash
+     * lost. Votes are blocked for the duration, and pending deltas are dropped because the
+     * recount already includes their committed vote rows.
+     */
+    public int reconcile() {
+        synchronized (flushMonitor) {
+            swapLock.writeLock().lock();
+            try {
+                pending = new ConcurrentHashMap<>();
+                int corrected = voteRepository.recountCounters();
+                logger.info("Reconciled vote counters, {} reviews corrected", corrected);
+                return corrected;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (!reconcileOnStartup) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            logger.error("Vote counter reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushScheduler.shutdown();
+        // Waits for a scheduled flush still in progress, then writes whatever came in after it
+        flush();
+    }
+}
@@ -0,0 +1,128 @@
+package GamersCoveDev.services.reviews;
+
+import GamersCoveDev.domains.entities.ReviewEntity;
+import GamersCoveDev.events.ReviewChangedEvent;
+import GamersCoveDev.repositories.ReviewRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The N best reviews of each game (rating DESC, created_at DESC, id), kept in a size-bounded
+ * cache. A miss reads the first N entries of idx_reviews_game_rating. Once a review write
+ * commits, the cached list is patched in place: a review that ranks above the last entry is
+ * inserted, one that drops out of a full list or is deleted from it evicts the list, since the
+ * review that would take its place isn't known. Writes that bypass ReviewServiceImpl (e.g. a
+ * user deletion cascading to their reviews) are picked up when the entry expires.
+ */
+@Component
+public class TopReviewsCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TopReviewsCache.class);
+
+    // Same order as the RATING review listing
+    private static final Comparator<ReviewEntity> ORDER = Comparator
+            .comparingInt((ReviewEntity r) -> -r.getRating())
+            .thenComparing(r -> r.getCreatedAt() != null ? r.getCreatedAt() : LocalDateTime.MIN,
+                    Comparator.reverseOrder())
+            .thenComparingLong(r -> r.getId() != null ? r.getId() : 0L);
+
+    private final ReviewRepository reviewRepository;
+    private final int size;
+    private final Cache<Long, List<ReviewEntity>> topByGame;
+
+    public TopReviewsCache(ReviewRepository reviewRepository,
+                           @Value("${reviews.top.size:5}") int size,
+                           @Value("${reviews.top.cache.maximum-size:10000}") long maximumSize,
+                           @Value("${reviews.top.cache.ttl:30m}") Duration ttl) {
+        this.reviewRepository = reviewRepository;
+        this.size = size;
+        this.topByGame = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    // Largest number of reviews get() can return
+    public int size() {
+        return size;
+    }
+
+    // At most limit of the game's best reviews, best first; the returned list is immutable
+    public List<ReviewEntity> get(Long gameId, int limit) {
+        List<ReviewEntity> top = topByGame.get(gameId, id ->
+                List.copyOf(reviewRepository.findByGameIdOrderByRatingDescCreatedAtDescIdAsc(id, Limit.of(size))));
+        return top.size() <= limit ? top : top.subList(0, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        ReviewEntity review = event.review();
+        boolean movedGame = event.previousGameId() != null && !event.previousGameId().equals(review.getGameId());
+        if (event.deleted() || movedGame) {
+            topByGame.asMap().computeIfPresent(event.previousGameId(), (gameId, top) -> remove(top, review.getId()));
+        }
+        if (!event.deleted()) {
+            topByGame.asMap().computeIfPresent(review.getGameId(), (gameId, top) -> upsert(top, review));
+        }
+    }
+
+    // Both patches are idempotent, so one that lands on a list loaded after the commit changes nothing
+    private List<ReviewEntity> remove(List<ReviewEntity> top, Long reviewId) {
+        int index = indexOf(top, reviewId);
+        if (index < 0) {
+            return top;
+        }
+        if (top.size() == size) {
+            // The next-best review isn't cached; reload on the next read
+            logger.debug("Top reviews of game {} lost review {}, evicting", top.get(index).getGameId(), reviewId);
+            return null;
+        }
+        List<ReviewEntity> patched = new ArrayList<>(top);
+        patched.remove(index);
+        return List.copyOf(patched);
+    }
+
+    private List<ReviewEntity> upsert(List<ReviewEntity> top, ReviewEntity review) {
+        List<ReviewEntity> patched = new ArrayList<>(top);
+        int index = indexOf(top, review.getId());
+        if (index >= 0) {
+            ReviewEntity previous = patched.remove(index);
+            // A cached review that ranks lower now may have fallen behind one that isn't cached
+            if (top.size() == size && ORDER.compare(review, previous) > 0) {
+                logger.debug("Top review {} of game {} dropped in rank, evicting", review.getId(), review.getGameId());
+                return null;
+            }
+        } else if (top.size() == size && ORDER.compare(review, top.get(size - 1)) > 0) {
+            // Ranks below a full list; nothing to change
+            return top;
+        }
+        int position = 0;
+        while (position < patched.size() && ORDER.compare(patched.get(position), review) < 0) {
+            position++;
+        }
+        patched.add(position, review);
+        return List.copyOf(patched.size() > size ? patched.subList(0, size) : patched);
+    }
+
+    private static int indexOf(List<ReviewEntity> top, Long reviewId) {
+        for (int i = 0; i < top.size(); i++) {
+            if (top.get(i).getId().equals(reviewId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,104 @@
+package GamersCoveDev.services.search;
+
+import GamersCoveDev.domains.entities.GameEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over every known external_api_id. A negative answer is definite, so
+ * importers only ask the database about ids the filter might have seen. Sized from the
+ * expected catalog size and false-positive rate; bits are never cleared for single games,
+ * which only costs an occasional extra lookup. Until the startup rebuild has finished it
+ * answers "maybe" for everything, so nothing is wrongly treated as new.
+ */
+@Component
+public class ExternalIdBloomFilter implements GameIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExternalIdBloomFilter.class);
+
+    private final long numBits;
+    private final int numHashes;
+    private final AtomicLongArray words;
+    private volatile boolean ready = false;
+
+    public ExternalIdBloomFilter(@Value("${games.bloom.expected-insertions:1000000}") long expectedInsertions,
+                                 @Value("${games.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.numBits = Math.max(64, bits);
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * ln2));
+        this.words = new AtomicLongArray((int) ((numBits + 63) >>> 6));
+        logger.info("External id Bloom filter: {} bits ({} KB), {} hashes", numBits, words.length() / 128, numHashes);
+    }
+
+    @Override
+    public void clear() {
+        ready = false;
+        for (int i = 0; i < words.length(); i++) {
+            words.set(i, 0L);
+        }
+    }
+
+    @Override
+    public void index(GameEntity game) {
+        if (game.getExternalApiId() != null) {
+            put(game.getExternalApiId());
+        }
+    }
+
+    @Override
+    public void rebuilt() {
+        ready = true;
+    }
+
+    public void put(String externalApiId) {
+        long hash = hash(externalApiId);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            long mask = 1L << bit;
+            words.accumulateAndGet((int) (bit >>> 6), mask, (word, m) -> word | m);
+        }
+    }
+
+    // False means the id has definitely never been indexed
+    public boolean mightContain(String externalApiId) {
+        if (!ready) {
+            return true;
+        }
+        long hash = hash(externalApiId);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 64-bit FNV-1a over the UTF-16 chars, finished with a mixer so nearby ids spread out
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
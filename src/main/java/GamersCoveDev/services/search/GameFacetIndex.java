@@ -0,0 +1,247 @@
+package GamersCoveDev.services.search;
+
+import GamersCoveDev.domains.dto.GameFacetsDto;
+import GamersCoveDev.domains.dto.GameFilterDto;
+import GamersCoveDev.domains.entities.GameEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory facet counts for the catalog sidebar. Every game gets a dense ordinal and
+ * every genre, platform and release year a bitset over those ordinals, so filtering is
+ * a bitwise AND and each facet count is a popcount of the intersection.
+ */
+@Component
+public class GameFacetIndex implements GameIndex {
+
+    private static final int NO_RELEASE_DAY = Integer.MIN_VALUE;
+    private static final int[] NO_VALUES = new int[0];
+
+    /** One facet dimension: value name -> id -> bitset of game ordinals. */
+    private static final class Facet {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<long[]> bits = new ArrayList<>();
+
+        int idFor(String name, int words) {
+            Integer id = ids.get(name);
+            if (id == null) {
+                id = names.size();
+                ids.put(name, id);
+                names.add(name);
+                bits.add(new long[words]);
+            }
+            return id;
+        }
+
+        void grow(int words) {
+            bits.replaceAll(b -> Arrays.copyOf(b, words));
+        }
+
+        void clear() {
+            ids.clear();
+            names.clear();
+            bits.clear();
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    private final Facet genres = new Facet();
+    private final Facet platforms = new Facet();
+    private final Facet years = new Facet();
+
+    private int words = 0;
+    private int ordinals = 0;
+    private long[] live = new long[0];
+    private int[] releaseDays = new int[0];
+    private int[][] genresByOrdinal = new int[0][];
+    private int[][] platformsByOrdinal = new int[0][];
+    private int[] yearByOrdinal = new int[0];
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ordinalById.clear();
+            genres.clear();
+            platforms.clear();
+            years.clear();
+            words = 0;
+            ordinals = 0;
+            live = new long[0];
+            releaseDays = new int[0];
+            genresByOrdinal = new int[0][];
+            platformsByOrdinal = new int[0][];
+            yearByOrdinal = new int[0];
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(GameEntity game) {
+        if (game.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinalById.get(game.getId());
+            int ordinal;
+            if (existing != null) {
+                ordinal = existing;
+                unset(genres, genresByOrdinal[ordinal], ordinal);
+                unset(platforms, platformsByOrdinal[ordinal], ordinal);
+                if (yearByOrdinal[ordinal] >= 0) {
+                    unset(years, new int[]{yearByOrdinal[ordinal]}, ordinal);
+                }
+            } else {
+                ordinal = ordinals++;
+                ensureCapacity(ordinals);
+                ordinalById.put(game.getId(), ordinal);
+                live[ordinal >>> 6] |= 1L << ordinal;
+            }
+
+            genresByOrdinal[ordinal] = set(genres, game.getGenres(), ordinal);
+            platformsByOrdinal[ordinal] = set(platforms, game.getPlatforms(), ordinal);
+            if (game.getReleaseDate() != null) {
+                releaseDays[ordinal] = (int) game.getReleaseDate().toEpochDay();
+                String year = String.valueOf(game.getReleaseDate().getYear());
+                yearByOrdinal[ordinal] = set(years, new String[]{year}, ordinal)[0];
+            } else {
+                releaseDays[ordinal] = NO_RELEASE_DAY;
+                yearByOrdinal[ordinal] = -1;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public GameFacetsDto facets(GameFilterDto filter) {
+        lock.readLock().lock();
+        try {
+            long[] mask = live.clone();
+            if (filter != null) {
+                if (filter.getGenre() != null) {
+                    and(mask, genres, filter.getGenre());
+                }
+                if (filter.getPlatform() != null) {
+                    and(mask, platforms, filter.getPlatform());
+                }
+                if (filter.getReleasedAfter() != null) {
+                    retainReleasedAfter(mask, (int) filter.getReleasedAfter().toEpochDay());
+                }
+            }
+
+            return GameFacetsDto.builder()
+                    .total(popCount(mask))
+                    .genres(counts(genres, mask))
+                    .platforms(counts(platforms, mask))
+                    .releaseYears(counts(years, mask))
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] set(Facet facet, String[] values, int ordinal) {
+        if (values.length == 0) {
+            return NO_VALUES;
+        }
+        int[] ids = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            ids[i] = facet.idFor(values[i], words);
+            facet.bits.get(ids[i])[ordinal >>> 6] |= 1L << ordinal;
+        }
+        return ids;
+    }
+
+    private void unset(Facet facet, int[] ids, int ordinal) {
+        for (int id : ids) {
+            facet.bits.get(id)[ordinal >>> 6] &= ~(1L << ordinal);
+        }
+    }
+
+    private void ensureCapacity(int ordinalCount) {
+        if (ordinalCount > releaseDays.length) {
+            int capacity = Math.max(1024, releaseDays.length * 2);
+            releaseDays = Arrays.copyOf(releaseDays, capacity);
+            genresByOrdinal = Arrays.copyOf(genresByOrdinal, capacity);
+            platformsByOrdinal = Arrays.copyOf(platformsByOrdinal, capacity);
+            yearByOrdinal = Arrays.copyOf(yearByOrdinal, capacity);
+        }
+        int neededWords = (ordinalCount + 63) >>> 6;
+        if (neededWords > words) {
+            words = Math.max(neededWords, words * 2);
+            live = Arrays.copyOf(live, words);
+            genres.grow(words);
+            platforms.grow(words);
+            years.grow(words);
+        }
+    }
+
+    private static void and(long[] mask, Facet facet, String value) {
+        Integer id = facet.ids.get(value);
+        if (id == null) {
+            Arrays.fill(mask, 0L);
+            return;
+        }
+        long[] bits = facet.bits.get(id);
+        for (int i = 0; i < mask.length; i++) {
+            mask[i] &= bits[i];
+        }
+    }
+
+    private void retainReleasedAfter(long[] mask, int epochDay) {
+        for (int w = 0; w < mask.length; w++) {
+            long word = mask[w];
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                int ordinal = (w << 6) + bit;
+                int releaseDay = releaseDays[ordinal];
+                if (releaseDay == NO_RELEASE_DAY || releaseDay <= epochDay) {
+                    mask[w] &= ~(1L << bit);
+                }
+            }
+        }
+    }
+
+    // Non-zero counts per facet value, largest first
+    private static Map<String, Long> counts(Facet facet, long[] mask) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>();
+        for (int id = 0; id < facet.names.size(); id++) {
+            long[] bits = facet.bits.get(id);
+            long count = 0;
+            for (int i = 0; i < mask.length; i++) {
+                count += Long.bitCount(mask[i] & bits[i]);
+            }
+            if (count > 0) {
+                entries.add(Map.entry(facet.names.get(id), count));
+            }
+        }
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : entries) {
+            counts.put(entry.getKey(), entry.getValue());
+        }
+        return counts;
+    }
+
+    private static long popCount(long[] mask) {
+        long count = 0;
+        for (long word : mask) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
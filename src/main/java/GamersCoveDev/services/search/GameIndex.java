@@ -0,0 +1,19 @@
+package GamersCoveDev.services.search;
+
+import GamersCoveDev.domains.entities.GameEntity;
+
+/**
+ * An in-memory view of the game catalog that is rebuilt at startup and kept
+ * up to date as games are written. See GameIndexMaintainer.
+ */
+public interface GameIndex {
+
+    void clear();
+
+    // Adds the game, or replaces the previous entry for the same id
+    void index(GameEntity game);
+
+    // Called after a full rebuild has indexed every game
+    default void rebuilt() {
+    }
+}
@@ -0,0 +1,64 @@
+package GamersCoveDev.services.search;
+
+import GamersCoveDev.domains.entities.GameEntity;
+import GamersCoveDev.events.GamesSavedEvent;
+import GamersCoveDev.repositories.GameRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Loads every GameIndex from the database once the application is up, paging through
+ * the catalog by id, and forwards committed game writes to them afterwards.
+ */
+@Component
+public class GameIndexMaintainer {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameIndexMaintainer.class);
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final GameRepository gameRepository;
+    private final List<GameIndex> indexes;
+
+    public GameIndexMaintainer(GameRepository gameRepository, List<GameIndex> indexes) {
+        this.gameRepository = gameRepository;
+        this.indexes = indexes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        indexes.forEach(GameIndex::clear);
+
+        long afterId = 0L;
+        long loaded = 0;
+        List<GameEntity> page;
+        do {
+            page = gameRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(LOAD_PAGE_SIZE));
+            for (GameEntity game : page) {
+                indexes.forEach(index -> index.index(game));
+            }
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+                loaded += page.size();
+            }
+        } while (page.size() == LOAD_PAGE_SIZE);
+        indexes.forEach(GameIndex::rebuilt);
+
+        logger.info("Built {} game indexes from {} games in {} ms",
+                indexes.size(), loaded, System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGamesSaved(GamesSavedEvent event) {
+        for (GameEntity game : event.games()) {
+            indexes.forEach(index -> index.index(game));
+        }
+    }
+}
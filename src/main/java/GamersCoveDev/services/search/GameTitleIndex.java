@@ -0,0 +1,163 @@
+package GamersCoveDev.services.search;
+
+import GamersCoveDev.domains.dto.GameSuggestionDto;
+import GamersCoveDev.domains.entities.GameEntity;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+
+/**
+ * Sorted in-memory index of normalized game titles for type-ahead suggestions.
+ * A query is a range scan over the sorted keys, so lookups cost O(log n + limit)
+ * and never touch the database. Titles are matched on their start first, then on
+ * the start of any later word ("zel" finds "The Legend of Zelda").
+ *
+ * Each title is normalized once and shared; the keys are (title, word offset) pairs
+ * ordered by the text from that offset on, so a title of w words costs w small key
+ * objects rather than w suffix strings.
+ */
+@Component
+public class GameTitleIndex implements GameIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private record Title(Long id, String title, String normalized) {
+    }
+
+    // The normalized text of a title from one word start onwards
+    private record WordStart(Title title, int offset) {
+
+        boolean startsWith(String prefix) {
+            return title.normalized().startsWith(prefix, offset);
+        }
+    }
+
+    // By the text from the offset, then id; identical titles of different games stay distinct keys
+    private static final Comparator<WordStart> ORDER = (a, b) -> {
+        String x = a.title().normalized();
+        String y = b.title().normalized();
+        int i = a.offset();
+        int j = b.offset();
+        while (i < x.length() && j < y.length()) {
+            int c = Character.compare(x.charAt(i++), y.charAt(j++));
+            if (c != 0) {
+                return c;
+            }
+        }
+        int c = Integer.compare(x.length() - i, y.length() - j);
+        if (c != 0) {
+            return c;
+        }
+        c = Long.compare(a.title().id(), b.title().id());
+        return c != 0 ? c : Integer.compare(a.offset(), b.offset());
+    };
+
+    private final NavigableSet<WordStart> titleStarts = new ConcurrentSkipListSet<>(ORDER);
+    private final NavigableSet<WordStart> wordStarts = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Long, Title> titlesById = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized void clear() {
+        titleStarts.clear();
+        wordStarts.clear();
+        titlesById.clear();
+    }
+
+    @Override
+    public synchronized void index(GameEntity game) {
+        if (game.getId() == null || game.getTitle() == null) {
+            return;
+        }
+        Title title = new Title(game.getId(), game.getTitle(), normalize(game.getTitle()));
+        Title previous = titlesById.put(game.getId(), title);
+        if (previous != null) {
+            removeKeys(previous);
+        }
+        if (title.normalized().isEmpty()) {
+            return;
+        }
+
+        titleStarts.add(new WordStart(title, 0));
+        for (int offset : laterWordOffsets(title.normalized())) {
+            wordStarts.add(new WordStart(title, offset));
+        }
+    }
+
+    public List<GameSuggestionDto> suggest(String query, int limit) {
+        String prefix = query == null ? "" : normalize(query);
+        if (prefix.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        Map<Long, Title> matches = new LinkedHashMap<>();
+        collect(titleStarts, prefix, limit, matches);
+        if (matches.size() < limit) {
+            collect(wordStarts, prefix, limit, matches);
+        }
+
+        List<GameSuggestionDto> suggestions = new ArrayList<>(matches.size());
+        for (Title title : matches.values()) {
+            suggestions.add(new GameSuggestionDto(title.id(), title.title()));
+        }
+        return suggestions;
+    }
+
+    public int size() {
+        return titlesById.size();
+    }
+
+    private void collect(NavigableSet<WordStart> keys, String prefix, int limit, Map<Long, Title> matches) {
+        // Sorts before every key that starts with the prefix
+        WordStart probe = new WordStart(new Title(Long.MIN_VALUE, prefix, prefix), 0);
+        for (WordStart key : keys.tailSet(probe, true)) {
+            if (!key.startsWith(prefix)) {
+                return;
+            }
+            matches.putIfAbsent(key.title().id(), key.title());
+            if (matches.size() >= limit) {
+                return;
+            }
+        }
+    }
+
+    private void removeKeys(Title title) {
+        titleStarts.remove(new WordStart(title, 0));
+        for (int offset : laterWordOffsets(title.normalized())) {
+            wordStarts.remove(new WordStart(title, offset));
+        }
+    }
+
+    // "legend of zelda" -> [7, 10]; offset 0 is the title start, kept in titleStarts
+    private static int[] laterWordOffsets(String normalized) {
+        int count = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (normalized.charAt(i) == ' ') {
+                count++;
+            }
+        }
+        int[] offsets = new int[count];
+        int n = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (normalized.charAt(i) == ' ') {
+                offsets[n++] = i + 1;
+            }
+        }
+        return offsets;
+    }
+
+    static String normalize(String text) {
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
@@ -1,68 +1,250 @@
 package GamersCoveDev.util;
 
+import GamersCoveDev.domains.dto.GameBatchResultDto;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.core.type.TypeReference;
-import org.springframework.http.*;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+
 import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Loads games_dto.json into a running server through POST /api/admin/games/batch.
+ * The file is read with Jackson's streaming parser, so only the batches in flight are
+ * held in memory, and up to --concurrency batches are sent at once. Progress reports
+ * the contiguous offset below which every record was sent; pass it back with --offset
+ * to resume an interrupted load. The endpoint is admin-only: pass the Firebase ID token
+ * of a user with the "admin" claim via --token or the ADMIN_ID_TOKEN environment variable.
+ *
+ * Usage: PostGamesToDb [--file games_dto.json] [--url http://localhost:8080/api]
+ *                      [--batch-size 500] [--concurrency 4] [--offset 0] [--max-retries 3]
+ *                      [--token <firebase id token>]
+ */
 public class PostGamesToDb {
-    private static final String API_URL = "http://localhost:8080/api/games";
+
     private static final ObjectMapper objectMapper = new ObjectMapper();
-    private static final RestTemplate restTemplate = new RestTemplate();
+
+    private final RestTemplate restTemplate;
+    private final String batchUrl;
+    private final String idToken;
+    private final int batchSize;
+    private final int concurrency;
+    private final int maxRetries;
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+    private final AtomicLong unchanged = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+
+    // Batches finished out of order (start -> end), folded into the watermark once contiguous
+    private final TreeMap<Long, Long> finished = new TreeMap<>();
+    private long watermark;
+    private long firstFailedOffset = -1;
+
+    private PostGamesToDb(String apiUrl, String idToken, int batchSize, int concurrency, int maxRetries,
+                          long startOffset) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(5_000);
+        requestFactory.setReadTimeout(120_000);
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.batchUrl = apiUrl + "/admin/games/batch";
+        this.idToken = idToken;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.maxRetries = maxRetries;
+        this.watermark = startOffset;
+    }
 
     public static void main(String[] args) {
+        Map<String, String> options = parseArgs(args);
+        File file = new File(options.getOrDefault("file", "games_dto.json"));
+        String apiUrl = options.getOrDefault("url", "http://localhost:8080/api");
+        int batchSize = Integer.parseInt(options.getOrDefault("batch-size", "500"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "4"));
+        int maxRetries = Integer.parseInt(options.getOrDefault("max-retries", "3"));
+        long offset = Long.parseLong(options.getOrDefault("offset", "0"));
+        String idToken = options.getOrDefault("token", System.getenv("ADMIN_ID_TOKEN"));
+        if (idToken == null || idToken.isBlank()) {
+            System.err.println("An admin Firebase ID token is required: pass --token or set ADMIN_ID_TOKEN");
+            System.exit(2);
+        }
+
+        System.out.println("Loading " + file + " into " + apiUrl + " (batch size " + batchSize
+                + ", concurrency " + concurrency + ", starting at offset " + offset + ")");
+
+        PostGamesToDb loader = new PostGamesToDb(apiUrl, idToken, batchSize, concurrency, maxRetries, offset);
         try {
-            // Read the JSON file
-            File file = new File("games_dto.json");
-            List<Map<String, Object>> games = objectMapper.readValue(file, new TypeReference<>() {});
-            
-            System.out.println("Found " + games.size() + " games to import");
-            
-            // Ask for confirmation
-            System.out.println("\nWARNING: This will post " + games.size() + " games to " + API_URL);
-            System.out.print("Do you want to continue? (yes/no): ");
-            
-            java.util.Scanner scanner = new java.util.Scanner(System.in);
-            String confirmation = scanner.nextLine().trim().toLowerCase();
-            
-            if (!confirmation.equals("yes")) {
-                System.out.println("Operation cancelled by user.");
-                return;
+            boolean ok = loader.run(file, offset);
+            System.exit(ok ? 0 : 1);
+        } catch (Exception e) {
+            System.err.println("Load aborted: " + e.getMessage());
+            System.err.println("Resume with --offset " + loader.resumeOffset());
+            System.exit(2);
+        }
+    }
+
+    private boolean run(File file, long offset) throws Exception {
+        long startNanos = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        // One permit per batch in flight or queued, so the parser never runs ahead of the senders
+        Semaphore permits = new Semaphore(concurrency * 2);
+        long records = offset;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(file)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalStateException("Expected a JSON array of games in " + file);
             }
-            
-            // Set up headers
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            
-            int successCount = 0;
-            
-            // Post each game to the API
-            for (Map<String, Object> game : games) {
-                try {
-                    HttpEntity<Map<String, Object>> request = new HttpEntity<>(game, headers);
-                    ResponseEntity<String> response = restTemplate.postForEntity(API_URL, request, String.class);
-                    
-                    if (response.getStatusCode().is2xxSuccessful()) {
-                        System.out.println("Successfully added game: " + game.get("title"));
-                        successCount++;
+
+            long index = 0;
+            List<JsonNode> batch = new ArrayList<>(batchSize);
+            long batchStart = offset;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                if (index++ < offset) {
+                    parser.skipChildren();
+                    continue;
+                }
+                batch.add(objectMapper.readTree(parser));
+                if (batch.size() == batchSize) {
+                    submit(executor, permits, batch, batchStart, startNanos);
+                    batchStart += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(executor, permits, batch, batchStart, startNanos);
+                batchStart += batch.size();
+            }
+            records = batchStart;
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.HOURS);
+        }
+
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.println();
+        System.out.println("Load finished in " + String.format("%.1f", seconds) + " s");
+        System.out.println("  records sent:   " + sent.get() + " (" + String.format("%.0f", sent.get() / Math.max(seconds, 0.001)) + " games/s)");
+        System.out.println("  created:        " + created.get());
+        System.out.println("  updated:        " + updated.get());
+        System.out.println("  unchanged:      " + unchanged.get());
+        System.out.println("  failed records: " + failed.get());
+        System.out.println("  failed batches: " + failedBatches.get());
+        if (failedBatches.get() > 0) {
+            System.out.println("Resume with --offset " + resumeOffset());
+        } else {
+            System.out.println("All " + (records - offset) + " records from offset " + offset + " were sent");
+        }
+        return failed.get() == 0 && failedBatches.get() == 0;
+    }
+
+    private void submit(ExecutorService executor, Semaphore permits, List<JsonNode> batch, long batchStart,
+                        long startNanos) throws InterruptedException {
+        permits.acquire();
+        executor.execute(() -> {
+            try {
+                send(batch, batchStart);
+                report(startNanos);
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    private void send(List<JsonNode> batch, long batchStart) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(idToken);
+        HttpEntity<List<JsonNode>> request = new HttpEntity<>(batch, headers);
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                GameBatchResultDto[] results = restTemplate.postForObject(batchUrl, request, GameBatchResultDto[].class);
+                sent.addAndGet(batch.size());
+                for (GameBatchResultDto result : results != null ? results : new GameBatchResultDto[0]) {
+                    if (GameBatchResultDto.CREATED.equals(result.getStatus())) {
+                        created.incrementAndGet();
+                    } else if (GameBatchResultDto.UPDATED.equals(result.getStatus())) {
+                        updated.incrementAndGet();
+                    } else if (GameBatchResultDto.UNCHANGED.equals(result.getStatus())) {
+                        unchanged.incrementAndGet();
                     } else {
-                        System.err.println("Failed to add game " + game.get("title") + ": " + response.getStatusCode());
+                        failed.incrementAndGet();
+                        System.err.println("Record " + (batchStart + result.getIndex()) + " ("
+                                + result.getExternalApiId() + ") failed: " + result.getError());
                     }
-                } catch (Exception e) {
-                    System.err.println("Error adding game " + game.get("title") + ": " + e.getMessage());
                 }
-                
-                // Small delay to avoid overwhelming the server
-                Thread.sleep(100);
+                finish(batchStart, batchStart + batch.size(), true);
+                return;
+            } catch (RestClientException e) {
+                // 4xx means the batch itself (or the token) was rejected; retrying would not change that
+                boolean retryable = !(e instanceof HttpClientErrorException);
+                if (!retryable || attempt >= maxRetries) {
+                    failedBatches.incrementAndGet();
+                    System.err.println("Batch at offset " + batchStart + " (" + batch.size() + " records) failed: "
+                            + e.getMessage());
+                    finish(batchStart, batchStart + batch.size(), false);
+                    return;
+                }
+                try {
+                    Thread.sleep(500L << attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    finish(batchStart, batchStart + batch.size(), false);
+                    return;
+                }
             }
-            
-            System.out.println("\nImport completed. Successfully imported " + successCount + " out of " + games.size() + " games.");
-            
-        } catch (Exception e) {
-            e.printStackTrace();
         }
     }
+
+    private synchronized void finish(long start, long end, boolean succeeded) {
+        if (!succeeded && (firstFailedOffset < 0 || start < firstFailedOffset)) {
+            firstFailedOffset = start;
+        }
+        finished.put(start, end);
+        while (!finished.isEmpty() && finished.firstKey() == watermark) {
+            watermark = finished.pollFirstEntry().getValue();
+        }
+    }
+
+    // Every record below this offset was sent successfully
+    private synchronized long resumeOffset() {
+        return firstFailedOffset >= 0 ? Math.min(firstFailedOffset, watermark) : watermark;
+    }
+
+    private void report(long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.println(String.format("sent %d (created %d, updated %d, unchanged %d, failed %d) at %.0f games/s, resume offset %d",
+                sent.get(), created.get(), updated.get(), unchanged.get(), failed.get(),
+                sent.get() / Math.max(seconds, 0.001), resumeOffset()));
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --option value pairs, got: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
 }
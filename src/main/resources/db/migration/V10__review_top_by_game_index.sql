@@ -0,0 +1,12 @@
+-- ===========================================
+-- GamersCove Top Reviews Index (V10)
+-- A game's top reviews (rating DESC, created_at DESC, id) are read from
+-- this index as the first N entries of the game's range, instead of
+-- sorting every review of the game. It also serves the rating-sorted
+-- review listing and the top review of the summaries query.
+-- ===========================================
+
+CREATE INDEX idx_reviews_game_rating ON reviews (game_id, rating DESC, created_at DESC, id);
+
+-- Every rating lookup is per game; the rating-only index has no reader left
+DROP INDEX IF EXISTS idx_reviews_rating;
@@ -0,0 +1,9 @@
+-- ===========================================
+-- GamersCove Title Search (V2)
+-- Trigram index so ILIKE '%term%' and similarity ranking
+-- on games.title no longer scan the whole table
+-- ===========================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_games_title_trgm ON games USING gin (title gin_trgm_ops);
@@ -0,0 +1,15 @@
+-- ===========================================
+-- GamersCove Platform/Genre Facets (V3)
+-- Store platforms and genres as TEXT[] instead of comma-joined TEXT
+-- so they can be filtered through GIN indexes
+-- ===========================================
+
+ALTER TABLE games
+    ALTER COLUMN platforms TYPE TEXT[]
+        USING regexp_split_to_array(NULLIF(btrim(platforms), ''), '\s*,\s*'),
+    ALTER COLUMN genres TYPE TEXT[]
+        USING regexp_split_to_array(NULLIF(btrim(genres), ''), '\s*,\s*');
+
+CREATE INDEX IF NOT EXISTS idx_games_platforms_gin ON games USING gin (platforms);
+CREATE INDEX IF NOT EXISTS idx_games_genres_gin ON games USING gin (genres);
+CREATE INDEX IF NOT EXISTS idx_games_release_date ON games(release_date);
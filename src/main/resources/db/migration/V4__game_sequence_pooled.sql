@@ -0,0 +1,10 @@
+-- ===========================================
+-- GamersCove Pooled Game Ids (V4)
+-- Hibernate's pooled optimizer reserves a block of 50 ids per nextval,
+-- so the sequence must step by the same allocationSize as GameEntity
+-- ===========================================
+
+ALTER SEQUENCE game_sequence INCREMENT BY 50;
+
+-- The next block (nextval - 49 .. nextval) must start above every existing id
+SELECT setval('game_sequence', (SELECT COALESCE(MAX(id), 0) FROM games) + 50, false);
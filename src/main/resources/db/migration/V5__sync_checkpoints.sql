@@ -0,0 +1,19 @@
+-- ===========================================
+-- GamersCove Sync Checkpoints (V5)
+-- One row per external catalog source. The (last_updated_at, last_external_id)
+-- pair is the delta cursor: the next run only asks the source for records
+-- with updated_at > last_updated_at, or the same updated_at and a larger id
+-- ===========================================
+
+CREATE TABLE sync_checkpoints (
+    source VARCHAR(50) PRIMARY KEY,
+    -- Source clock (IGDB updated_at is unix seconds), not ours
+    last_updated_at BIGINT NOT NULL DEFAULT 0,
+    last_external_id BIGINT NOT NULL DEFAULT 0,
+    last_run_started_at TIMESTAMPTZ,
+    last_run_finished_at TIMESTAMPTZ,
+    last_run_duration_ms BIGINT,
+    last_run_rows_changed BIGINT,
+    last_run_status VARCHAR(20),
+    last_error TEXT
+);
@@ -0,0 +1,22 @@
+-- ===========================================
+-- GamersCove Rating Aggregates (V6)
+-- games.rating_sum / total_ratings are kept up to date by every review write,
+-- so a game's average is read from one row instead of scanning its reviews.
+-- average_rating is derived from the two; 10.00 needs a fourth digit.
+-- ===========================================
+
+ALTER TABLE games ADD COLUMN rating_sum BIGINT NOT NULL DEFAULT 0;
+
+UPDATE games SET total_ratings = 0 WHERE total_ratings IS NULL;
+ALTER TABLE games ALTER COLUMN total_ratings SET NOT NULL;
+ALTER TABLE games ALTER COLUMN average_rating TYPE NUMERIC(4,2);
+
+-- Backfill from the existing reviews
+UPDATE games g
+SET rating_sum = a.rating_sum,
+    total_ratings = a.total_ratings,
+    average_rating = round(a.rating_sum::numeric / a.total_ratings, 2)
+FROM (SELECT game_id, sum(rating) AS rating_sum, count(*) AS total_ratings
+      FROM reviews
+      GROUP BY game_id) a
+WHERE g.id = a.game_id;
@@ -0,0 +1,20 @@
+-- ===========================================
+-- GamersCove Rating Histogram (V7)
+-- rating_histogram[n] is the number of reviews rating the game n (1-10),
+-- maintained alongside rating_sum / total_ratings on every review write
+-- ===========================================
+
+ALTER TABLE games ADD COLUMN rating_histogram INT[] NOT NULL DEFAULT '{0,0,0,0,0,0,0,0,0,0}';
+
+-- Backfill with one pass over reviews
+UPDATE games g
+SET rating_histogram = h.rating_histogram
+FROM (SELECT game_id,
+             ARRAY[count(*) FILTER (WHERE rating = 1), count(*) FILTER (WHERE rating = 2),
+                   count(*) FILTER (WHERE rating = 3), count(*) FILTER (WHERE rating = 4),
+                   count(*) FILTER (WHERE rating = 5), count(*) FILTER (WHERE rating = 6),
+                   count(*) FILTER (WHERE rating = 7), count(*) FILTER (WHERE rating = 8),
+                   count(*) FILTER (WHERE rating = 9), count(*) FILTER (WHERE rating = 10)]::int[] AS rating_histogram
+      FROM reviews
+      GROUP BY game_id) h
+WHERE g.id = h.game_id;
@@ -0,0 +1,16 @@
+-- ===========================================
+-- GamersCove Review Keyset Pagination (V8)
+-- Review listings page by (created_at DESC, id) within a game or a user.
+-- The composite indexes serve both the filter and the order, so a page
+-- reads only its own rows; they also cover the old single-column indexes.
+-- ===========================================
+
+-- Keyset cursors compare created_at, which must never be NULL
+UPDATE reviews SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+ALTER TABLE reviews ALTER COLUMN created_at SET NOT NULL;
+
+CREATE INDEX idx_reviews_game_created ON reviews (game_id, created_at DESC, id);
+CREATE INDEX idx_reviews_user_created ON reviews (user_id, created_at DESC, id);
+
+DROP INDEX IF EXISTS idx_reviews_game_id;
+DROP INDEX IF EXISTS idx_reviews_user_id;
@@ -0,0 +1,32 @@
+-- ===========================================
+-- GamersCove Review Votes (V9)
+-- One row per (review, user) vote, so a vote counts once however often it is
+-- clicked. reviews.likes_count / is_helpful_count / is_not_helpful_count are
+-- derived from these tables: the app applies batched deltas and recounts
+-- them from here at startup.
+-- ===========================================
+
+CREATE TABLE review_likes (
+    review_id BIGINT NOT NULL REFERENCES reviews(id) ON DELETE CASCADE,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (review_id, user_id)
+);
+
+CREATE TABLE review_helpful_votes (
+    review_id BIGINT NOT NULL REFERENCES reviews(id) ON DELETE CASCADE,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    helpful BOOLEAN NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (review_id, user_id)
+);
+
+CREATE INDEX idx_review_likes_user_id ON review_likes(user_id);
+CREATE INDEX idx_review_helpful_votes_user_id ON review_helpful_votes(user_id);
+
+UPDATE reviews SET likes_count = 0 WHERE likes_count IS NULL;
+UPDATE reviews SET is_helpful_count = 0 WHERE is_helpful_count IS NULL;
+UPDATE reviews SET is_not_helpful_count = 0 WHERE is_not_helpful_count IS NULL;
+ALTER TABLE reviews ALTER COLUMN likes_count SET NOT NULL;
+ALTER TABLE reviews ALTER COLUMN is_helpful_count SET NOT NULL;
+ALTER TABLE reviews ALTER COLUMN is_not_helpful_count SET NOT NULL;
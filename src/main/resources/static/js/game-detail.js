@@ -54,7 +54,7 @@ function displayGameDetails(game) {
     const coverEl = document.getElementById('gameCover');
     const placeholderEl = coverEl.nextElementSibling;
     if (game.coverImageUrl) {
-        coverEl.src = game.coverImageUrl;
+        coverEl.src = `/img/games/${encodeURIComponent(game.id)}/cover`;
         coverEl.style.display = 'block';
         placeholderEl.style.display = 'none';
     } else {
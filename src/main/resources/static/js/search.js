@@ -24,7 +24,7 @@ async function searchGames(searchTerm) {
     console.log('Searching for:', searchTerm);
     
     try {
-        const url = `/api/games?search=${encodeURIComponent(searchTerm)}`;
+        const url = `/api/games?search=${encodeURIComponent(searchTerm)}&limit=10&view=card`;
         console.log('Fetching from:', url);
         
         const response = await fetch(url);
@@ -35,7 +35,8 @@ async function searchGames(searchTerm) {
             throw new Error(`Search failed with status: ${response.status}`);
         }
 
-        const games = await response.json();
+        const page = await response.json();
+        const games = page.items || [];
         console.log('Games received:', games);
         console.log('Number of games:', games.length);
         
@@ -89,7 +90,7 @@ function displaySearchResults(games) {
         }
         
         const coverHtml = game.coverImageUrl 
-            ? `<img src="${escapeHtml(game.coverImageUrl)}" alt="${escapeHtml(game.title || '')}" class="game-cover" onerror="this.parentElement.querySelector('.game-cover-placeholder').style.display='flex'; this.style.display='none';">`
+            ? `<img src="/img/games/${encodeURIComponent(game.id)}/thumb" loading="lazy" alt="${escapeHtml(game.title || '')}" class="game-cover" onerror="this.parentElement.querySelector('.game-cover-placeholder').style.display='flex'; this.style.display='none';">`
             : '';
         const placeholderHtml = game.coverImageUrl 
             ? '<div class="game-cover-placeholder" style="display:none;">🎮</div>'
@@ -0,0 +1,119 @@
+package GamersCoveDev.controllers;
+
+import GamersCoveDev.domains.entities.UserEntity;
+import GamersCoveDev.security.FirebaseUserDetails;
+import GamersCoveDev.services.UserService;
+import GamersCoveDev.services.reviews.ReviewVoteService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.test.context.TestSecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Drives the vote endpoints with the principal FirebaseAuthenticationFilter puts in the
+ * security context, resolved by the same argument resolver Spring Security registers.
+ */
+class ReviewVoteControllerTest {
+
+    private static final long REVIEW_ID = 7L;
+    private static final long USER_ID = 42L;
+    private static final String FIREBASE_UID = "firebase-uid-1";
+
+    private ReviewVoteService voteService;
+    private UserService userService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        voteService = mock(ReviewVoteService.class);
+        userService = mock(UserService.class);
+        UserEntity user = new UserEntity();
+        user.setId(USER_ID);
+        user.setFirebaseUid(FIREBASE_UID);
+        when(userService.findByFirebaseUid(FIREBASE_UID)).thenReturn(Optional.of(user));
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new ReviewVoteController(voteService, userService))
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        TestSecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void likeRecordsTheVoteOfTheSignedInUser() throws Exception {
+        mockMvc.perform(put("/api/reviews/{id}/like", REVIEW_ID).with(signedIn()))
+                .andExpect(status().isNoContent());
+        verify(voteService).like(REVIEW_ID, USER_ID);
+    }
+
+    @Test
+    void unlikeRecordsTheVoteOfTheSignedInUser() throws Exception {
+        mockMvc.perform(delete("/api/reviews/{id}/like", REVIEW_ID).with(signedIn()))
+                .andExpect(status().isNoContent());
+        verify(voteService).unlike(REVIEW_ID, USER_ID);
+    }
+
+    @Test
+    void helpfulVotesRecordTheVoteOfTheSignedInUser() throws Exception {
+        mockMvc.perform(put("/api/reviews/{id}/helpful", REVIEW_ID).with(signedIn())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"helpful\": false}"))
+                .andExpect(status().isNoContent());
+        verify(voteService).voteHelpful(REVIEW_ID, USER_ID, false);
+
+        mockMvc.perform(delete("/api/reviews/{id}/helpful", REVIEW_ID).with(signedIn()))
+                .andExpect(status().isNoContent());
+        verify(voteService).removeHelpfulVote(REVIEW_ID, USER_ID);
+    }
+
+    @Test
+    void helpfulVoteWithoutAValueIsRejected() throws Exception {
+        mockMvc.perform(put("/api/reviews/{id}/helpful", REVIEW_ID).with(signedIn())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void signedInUserWithoutAnAccountIsUnauthorized() throws Exception {
+        FirebaseUserDetails stranger = new FirebaseUserDetails("unknown-uid", "x@example.com", "X", true, false);
+        mockMvc.perform(put("/api/reviews/{id}/like", REVIEW_ID)
+                        .with(authentication(new UsernamePasswordAuthenticationToken(stranger, null, stranger.getAuthorities()))))
+                .andExpect(status().isUnauthorized());
+        verify(voteService, never()).like(anyLong(), anyLong());
+    }
+
+    @Test
+    void anonymousVoteIsUnauthorized() throws Exception {
+        mockMvc.perform(put("/api/reviews/{id}/like", REVIEW_ID))
+                .andExpect(status().isUnauthorized());
+        verify(voteService, never()).like(anyLong(), anyLong());
+    }
+
+    // The Authentication FirebaseAuthenticationFilter builds for a verified token
+    private static RequestPostProcessor signedIn() {
+        FirebaseUserDetails principal = new FirebaseUserDetails(FIREBASE_UID, "player@example.com", "Player", true, false);
+        return authentication(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
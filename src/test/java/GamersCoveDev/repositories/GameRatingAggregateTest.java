@@ -0,0 +1,57 @@
+package GamersCoveDev.repositories;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GameRatingAggregateTest {
+
+    @Test
+    void medianOfAnOddCountIsTheMiddleRating() {
+        // Ratings 2, 7, 7, 9, 10
+        assertEquals(7.0, aggregate(2, 7, 7, 9, 10).median());
+    }
+
+    @Test
+    void medianOfAnEvenCountAveragesTheTwoMiddleRatings() {
+        // Ratings 3, 4, 8, 10
+        assertEquals(6.0, aggregate(3, 4, 8, 10).median());
+        // Ratings 5, 6
+        assertEquals(5.5, aggregate(5, 6).median());
+    }
+
+    @Test
+    void medianWithTheMiddleFallingInsideOneBucket() {
+        assertEquals(8.0, aggregate(1, 8, 8, 8, 10, 10).median());
+    }
+
+    @Test
+    void medianOfASingleRatingIsThatRating() {
+        assertEquals(1.0, aggregate(1).median());
+        assertEquals(10.0, aggregate(10).median());
+    }
+
+    @Test
+    void noRatingsGiveZero() {
+        GameRatingAggregate empty = aggregate();
+        assertEquals(0.0, empty.median());
+        assertEquals(0.0, empty.average());
+    }
+
+    @Test
+    void averageIsRoundedToOneDecimal() {
+        // 23 / 3 = 7.666...
+        assertEquals(7.7, aggregate(6, 8, 9).average());
+        assertEquals(5.0, aggregate(4, 6).average());
+    }
+
+    private static GameRatingAggregate aggregate(int... ratings) {
+        int[] histogram = new int[GameRatingAggregate.MAX_RATING];
+        long sum = 0;
+        for (int rating : ratings) {
+            histogram[rating - 1]++;
+            sum += rating;
+        }
+        return new GameRatingAggregate(sum, ratings.length, histogram);
+    }
+}
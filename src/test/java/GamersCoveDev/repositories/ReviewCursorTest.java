@@ -0,0 +1,73 @@
+package GamersCoveDev.repositories;
+
+import GamersCoveDev.domains.entities.ReviewEntity;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReviewCursorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 9, 17, 45, 12, 123_456_000);
+
+    private final ReviewEntity last = ReviewEntity.builder()
+            .id(42L)
+            .rating(8)
+            .helpfulCount(13)
+            .createdAt(CREATED_AT)
+            .build();
+
+    @Test
+    void roundTripsTheSortKeyOfEachSort() {
+        assertEquals(new ReviewCursor(0, CREATED_AT, 42L),
+                ReviewCursor.decode(ReviewCursor.encode(last, ReviewSort.NEWEST), ReviewSort.NEWEST));
+        assertEquals(new ReviewCursor(8, CREATED_AT, 42L),
+                ReviewCursor.decode(ReviewCursor.encode(last, ReviewSort.RATING), ReviewSort.RATING));
+        assertEquals(new ReviewCursor(13, CREATED_AT, 42L),
+                ReviewCursor.decode(ReviewCursor.encode(last, ReviewSort.HELPFUL), ReviewSort.HELPFUL));
+    }
+
+    @Test
+    void missingHelpfulCountEncodesAsZero() {
+        last.setHelpfulCount(null);
+        assertEquals(0, ReviewCursor.decode(ReviewCursor.encode(last, ReviewSort.HELPFUL), ReviewSort.HELPFUL).primary());
+    }
+
+    @Test
+    void cursorIsUrlSafe() {
+        String cursor = ReviewCursor.encode(last, ReviewSort.RATING);
+        assertFalse(cursor.contains("+") || cursor.contains("/") || cursor.contains("="));
+    }
+
+    @Test
+    void blankCursorMeansTheFirstPage() {
+        assertNull(ReviewCursor.decode(null, ReviewSort.NEWEST));
+        assertNull(ReviewCursor.decode("  ", ReviewSort.NEWEST));
+    }
+
+    @Test
+    void cursorFromAnotherSortIsRejected() {
+        String cursor = ReviewCursor.encode(last, ReviewSort.RATING);
+        assertThrows(IllegalArgumentException.class, () -> ReviewCursor.decode(cursor, ReviewSort.HELPFUL));
+    }
+
+    @Test
+    void malformedCursorsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ReviewCursor.decode("not base64!", ReviewSort.NEWEST));
+        assertThrows(IllegalArgumentException.class, () -> ReviewCursor.decode(encode("NEWEST|0|42"), ReviewSort.NEWEST));
+        assertThrows(IllegalArgumentException.class,
+                () -> ReviewCursor.decode(encode("NEWEST|x|2024-03-09T17:45:12|42"), ReviewSort.NEWEST));
+        assertThrows(IllegalArgumentException.class,
+                () -> ReviewCursor.decode(encode("NEWEST|0|yesterday|42"), ReviewSort.NEWEST));
+    }
+
+    private static String encode(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+}
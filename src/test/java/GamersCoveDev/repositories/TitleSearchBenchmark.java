@@ -0,0 +1,134 @@
+package GamersCoveDev.repositories;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Integration benchmark for title search against a local PostgreSQL migrated by Flyway.
+ * Seeds 100k synthetic titles into the real games table (inside a transaction that is rolled
+ * back) and reports p50/p95 latency for one page of 20 results from the previous
+ * {@code upper(title) like upper('%x%')} keyset query vs. GameRepositoryCustomImpl's ranked
+ * query, both planned against the schema's own indexes.
+ * Run manually: it needs the database from docker-compose.yml with the migrations applied.
+ */
+public class TitleSearchBenchmark {
+
+    private static final int GAME_COUNT = 100_000;
+    private static final int QUERY_COUNT = 300;
+    private static final int PAGE_SIZE = 20;
+    // Synthetic ids far above anything the game_sequence hands out
+    private static final long FIRST_ID = 1_000_000_000L;
+    private static final String[] WORDS = {
+            "dark", "souls", "legend", "zelda", "hollow", "knight", "star", "wars", "space", "quest",
+            "final", "fantasy", "super", "mario", "kart", "racing", "battle", "royale", "dragon", "age",
+            "city", "skylines", "dead", "cells", "night", "blade", "storm", "shadow", "tactics", "empire"
+    };
+
+    public static void main(String[] args) throws Exception {
+        String url = "jdbc:postgresql://localhost:5432/gamerscove";
+        String user = "postgres";
+        String password = "pass0000";
+
+        try (Connection conn = DriverManager.getConnection(url, user, password)) {
+            requireIndex(conn, "idx_games_title_trgm");
+            conn.setAutoCommit(false);
+            try {
+                Random random = new Random(42);
+                seed(conn, random);
+
+                List<String> terms = new ArrayList<>();
+                for (int i = 0; i < QUERY_COUNT; i++) {
+                    String word = WORDS[random.nextInt(WORDS.length)];
+                    terms.add(word.substring(0, 3 + random.nextInt(word.length() - 2)));
+                }
+
+                NamedParameterJdbcTemplate jdbc =
+                        new NamedParameterJdbcTemplate(new SingleConnectionDataSource(conn, true));
+
+                // The search as it was before V2: substring match, paged by id
+                String before = "SELECT g.* FROM games g WHERE upper(g.title) LIKE upper(:pattern) " +
+                        "AND g.id > :afterId ORDER BY g.id LIMIT :limit";
+                report("before (upper LIKE, id order)", jdbc, before, terms);
+                report("after (trigram GIN, ranked)", jdbc, GameRepositoryCustomImpl.rankedSql("g.*"), terms);
+            } finally {
+                conn.rollback();
+            }
+        }
+    }
+
+    private static void requireIndex(Connection conn, String index) throws Exception {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT 1 FROM pg_indexes WHERE indexname = ?")) {
+            ps.setString(1, index);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    throw new IllegalStateException(index + " is missing; run the Flyway migrations first");
+                }
+            }
+        }
+    }
+
+    private static void seed(Connection conn, Random random) throws Exception {
+        System.out.println("Seeding " + GAME_COUNT + " games...");
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO games (id, external_api_id, name, title) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= GAME_COUNT; i++) {
+                StringBuilder title = new StringBuilder();
+                int words = 2 + random.nextInt(3);
+                for (int w = 0; w < words; w++) {
+                    String word = WORDS[random.nextInt(WORDS.length)];
+                    title.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1)).append(' ');
+                }
+                title.append(i);
+                ps.setLong(1, FIRST_ID + i);
+                ps.setString(2, "bench_" + i);
+                ps.setString(3, title.toString());
+                ps.setString(4, title.toString());
+                ps.addBatch();
+                if (i % 5_000 == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        try (Statement st = conn.createStatement()) {
+            // Move the seeded rows out of the GIN pending list so the index is read as it would be at rest
+            st.execute("SELECT gin_clean_pending_list('idx_games_title_trgm')");
+            st.execute("ANALYZE games");
+        }
+    }
+
+    private static void report(String label, NamedParameterJdbcTemplate jdbc, String sql, List<String> terms) {
+        List<Long> timings = new ArrayList<>();
+        for (String term : terms) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("term", term)
+                    .addValue("pattern", "%" + term + "%")
+                    .addValue("prefixPattern", term + "%")
+                    .addValue("afterId", 0L)
+                    .addValue("limit", PAGE_SIZE);
+            long start = System.nanoTime();
+            jdbc.query(sql, params, (ResultSet rs) -> {
+                while (rs.next()) {
+                    rs.getString("title");
+                }
+                return null;
+            });
+            timings.add(System.nanoTime() - start);
+        }
+        Collections.sort(timings);
+        System.out.printf("%-32s p50=%.2f ms  p95=%.2f ms%n", label,
+                timings.get(timings.size() / 2) / 1_000_000.0,
+                timings.get((int) (timings.size() * 0.95)) / 1_000_000.0);
+    }
+}
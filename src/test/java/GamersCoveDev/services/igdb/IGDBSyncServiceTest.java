@@ -0,0 +1,152 @@
+package GamersCoveDev.services.igdb;
+
+import GamersCoveDev.domains.dto.GameBatchResultDto;
+import GamersCoveDev.domains.dto.IGDBSyncResultDto;
+import GamersCoveDev.domains.entities.GameEntity;
+import GamersCoveDev.services.GameService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the sync engine against a local stub of IGDB's /v4/games that serves the recorded
+ * pages in src/test/resources/igdb (games-offset-N.json, an empty array past the end).
+ */
+class IGDBSyncServiceTest {
+
+    private static final Pattern OFFSET = Pattern.compile("offset (\\d+);");
+    private static final int PAGE_SIZE = 2;
+
+    private HttpServer server;
+    private final Map<Integer, AtomicInteger> requestsByOffset = new ConcurrentHashMap<>();
+    private final Queue<String> clientIds = new ConcurrentLinkedQueue<>();
+    private final Queue<GameEntity> savedGames = new ConcurrentLinkedQueue<>();
+    private volatile int throttleFirstRequests = 0;
+    private volatile int failingStatus = 0;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v4/games", this::handle);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    @Test
+    void syncsEveryRecordedPageAndRetriesThrottledRequests() {
+        throttleFirstRequests = 1;
+
+        IGDBSyncResultDto result = newSyncService().syncCatalog();
+
+        assertEquals(5, result.getFetched());
+        assertEquals(5, result.getCreated());
+        assertEquals(0, result.getFailed());
+        assertEquals(
+                List.of("igdb_1020", "igdb_14593", "igdb_1942", "igdb_26226", "igdb_7346"),
+                savedGames.stream().map(GameEntity::getExternalApiId).sorted().toList());
+
+        GameEntity witcher = savedGames.stream()
+                .filter(g -> g.getExternalApiId().equals("igdb_1942"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("The Witcher 3: Wild Hunt", witcher.getTitle());
+        assertEquals("https://images.igdb.com/igdb/image/upload/t_cover_big/co1wyy.jpg", witcher.getCoverImageUrl());
+        assertEquals(List.of("Role-playing (RPG)"), List.of(witcher.getGenres()));
+
+        // The 429 on the first request was retried, and no page was fetched twice otherwise
+        int totalRequests = requestsByOffset.values().stream().mapToInt(AtomicInteger::get).sum();
+        int distinctPages = requestsByOffset.size();
+        assertEquals(distinctPages + 1, totalRequests);
+        assertTrue(clientIds.stream().allMatch("test-client"::equals));
+    }
+
+    @Test
+    void failsWhenIgdbKeepsErroring() {
+        failingStatus = 503;
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> newSyncService().syncCatalog());
+
+        assertTrue(e.getMessage().startsWith("IGDB sync failed"));
+        assertTrue(savedGames.isEmpty());
+    }
+
+    private IGDBSyncService newSyncService() {
+        IGDBClient client = new IGDBClient(new RestTemplate(),
+                "http://localhost:" + server.getAddress().getPort() + "/v4",
+                "test-client", "test-token", 100, 2, 5);
+
+        GameService gameService = mock(GameService.class);
+        when(gameService.createGameEntities(anyList())).thenAnswer(invocation -> {
+            List<GameEntity> games = invocation.getArgument(0);
+            savedGames.addAll(games);
+            return IntStream.range(0, games.size())
+                    .mapToObj(i -> GameBatchResultDto.builder()
+                            .index(i)
+                            .externalApiId(games.get(i).getExternalApiId())
+                            .status(GameBatchResultDto.CREATED)
+                            .build())
+                    .collect(Collectors.toList());
+        });
+
+        return new IGDBSyncService(client, new IGDBGameConverter(), gameService, PAGE_SIZE, 2);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        clientIds.add(exchange.getRequestHeaders().getFirst("Client-ID"));
+
+        Matcher matcher = OFFSET.matcher(body);
+        int offset = matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+        int seen = requestsByOffset.computeIfAbsent(offset, o -> new AtomicInteger()).getAndIncrement();
+
+        if (failingStatus != 0) {
+            respond(exchange, failingStatus, "{\"message\":\"unavailable\"}".getBytes(StandardCharsets.UTF_8));
+        } else if (offset == 0 && seen < throttleFirstRequests) {
+            respond(exchange, 429, "{\"message\":\"Too Many Requests\"}".getBytes(StandardCharsets.UTF_8));
+        } else {
+            try (InputStream page = getClass().getResourceAsStream("/igdb/games-offset-" + offset + ".json")) {
+                respond(exchange, 200, page != null ? page.readAllBytes() : "[]".getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package GamersCoveDev.services.jobs;
+
+import GamersCoveDev.domains.dto.GameBatchResultDto;
+import GamersCoveDev.domains.dto.ImportJobDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ImportJobTest {
+
+    private static final int PAGE_SIZE = 100;
+
+    private ImportJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new ImportJob("job-1", ImportJob.CATALOG, 1_000, PAGE_SIZE);
+    }
+
+    @Test
+    void watermarkStartsAtTheStartOffset() {
+        assertEquals(1_000, job.getCommittedOffset());
+    }
+
+    @Test
+    void watermarkAdvancesOverContiguousPages() {
+        job.recordPage(1_000, PAGE_SIZE, results(GameBatchResultDto.CREATED));
+        job.recordPage(1_100, PAGE_SIZE, results(GameBatchResultDto.UPDATED));
+        assertEquals(1_200, job.getCommittedOffset());
+    }
+
+    @Test
+    void outOfOrderPagesWaitForTheGapBelowThem() {
+        job.recordPage(1_200, PAGE_SIZE, results(GameBatchResultDto.CREATED));
+        job.recordPage(1_100, PAGE_SIZE, results(GameBatchResultDto.CREATED));
+        assertEquals(1_000, job.getCommittedOffset());
+
+        job.recordPage(1_000, PAGE_SIZE, results(GameBatchResultDto.CREATED));
+        assertEquals(1_300, job.getCommittedOffset());
+    }
+
+    @Test
+    void pageWithARetryableFailureIsNotCommitted() {
+        job.recordPage(1_000, PAGE_SIZE, results(GameBatchResultDto.CREATED));
+        job.recordPage(1_100, PAGE_SIZE, List.of(result(GameBatchResultDto.CREATED), retryableFailure()));
+        job.recordPage(1_200, PAGE_SIZE, results(GameBatchResultDto.CREATED));
+        assertEquals(1_100, job.getCommittedOffset());
+    }
+
+    @Test
+    void permanentlyFailedRowsDoNotHoldTheWatermark() {
+        job.recordPage(1_000, PAGE_SIZE, results(GameBatchResultDto.CREATED, GameBatchResultDto.FAILED));
+        job.recordPage(1_100, PAGE_SIZE, results(GameBatchResultDto.FAILED));
+        assertEquals(1_200, job.getCommittedOffset());
+        assertEquals(2, job.toDto().getFailed());
+    }
+
+    @Test
+    void unchangedRowsCommitThePage() {
+        job.recordPage(1_000, PAGE_SIZE, results(GameBatchResultDto.UNCHANGED, GameBatchResultDto.UNCHANGED));
+        assertEquals(1_100, job.getCommittedOffset());
+    }
+
+    @Test
+    void countersTallyEveryStatus() {
+        job.recordPage(1_000, PAGE_SIZE, results(GameBatchResultDto.CREATED, GameBatchResultDto.UPDATED,
+                GameBatchResultDto.UNCHANGED, GameBatchResultDto.FAILED));
+        job.recordPage(1_100, 40, results(GameBatchResultDto.CREATED));
+
+        ImportJobDto dto = job.toDto();
+        assertEquals(ImportJob.CATALOG, dto.getKind());
+        assertEquals(2, dto.getPages());
+        assertEquals(140, dto.getFetched());
+        assertEquals(2, dto.getCreated());
+        assertEquals(1, dto.getUpdated());
+        assertEquals(1, dto.getUnchanged());
+        assertEquals(1, dto.getFailed());
+        assertEquals(1_200, dto.getCommittedOffset());
+    }
+
+    private static List<GameBatchResultDto> results(String... statuses) {
+        return Arrays.stream(statuses)
+                .map(ImportJobTest::result)
+                .toList();
+    }
+
+    private static GameBatchResultDto result(String status) {
+        return GameBatchResultDto.builder().status(status).build();
+    }
+
+    // The chunk hit a lock timeout or lost connection
+    private static GameBatchResultDto retryableFailure() {
+        return GameBatchResultDto.builder().status(GameBatchResultDto.FAILED).retryable(true).build();
+    }
+}
@@ -0,0 +1,215 @@
+package GamersCoveDev.services.reviews;
+
+import GamersCoveDev.domains.entities.ReviewEntity;
+import GamersCoveDev.events.ReviewChangedEvent;
+import GamersCoveDev.repositories.MockReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TopReviewsCacheTest {
+
+    private static final long GAME = 1L;
+    private static final long OTHER_GAME = 2L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    // Stands in for the reviews table; counts how often the cache reads it
+    private static class StoredReviews extends MockReviewRepository {
+        final List<ReviewEntity> rows = new ArrayList<>();
+        int loads;
+
+        @Override
+        public List<ReviewEntity> findByGameIdOrderByRatingDescCreatedAtDescIdAsc(Long gameId, Limit limit) {
+            loads++;
+            return rows.stream()
+                    .filter(r -> r.getGameId().equals(gameId))
+                    .sorted(Comparator.comparing(ReviewEntity::getRating).reversed()
+                            .thenComparing(ReviewEntity::getCreatedAt, Comparator.reverseOrder())
+                            .thenComparing(ReviewEntity::getId))
+                    .limit(limit.max())
+                    // Fresh instances, as a new persistence context would load them
+                    .map(r -> ReviewEntity.builder()
+                            .id(r.getId())
+                            .gameId(r.getGameId())
+                            .rating(r.getRating())
+                            .createdAt(r.getCreatedAt())
+                            .build())
+                    .toList();
+        }
+    }
+
+    private StoredReviews stored;
+    private TopReviewsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        stored = new StoredReviews();
+        cache = new TopReviewsCache(stored, 3, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void missLoadsOnceAndLimitReturnsAPrefix() {
+        store(1, GAME, 9, 0);
+        store(2, GAME, 7, 0);
+        store(3, GAME, 5, 0);
+
+        assertEquals(List.of(1L, 2L, 3L), ids(cache.get(GAME, 3)));
+        assertEquals(List.of(1L, 2L), ids(cache.get(GAME, 2)));
+        assertEquals(1, stored.loads);
+    }
+
+    @Test
+    void newReviewAboveTheLastEntryIsInsertedInPlace() {
+        fullList();
+        ReviewEntity review = store(4, GAME, 8, 0);
+        cache.onReviewChanged(ReviewChangedEvent.created(review));
+
+        assertEquals(List.of(1L, 4L, 2L), ids(cache.get(GAME, 3)));
+        assertEquals(1, stored.loads);
+    }
+
+    @Test
+    void newReviewBelowAFullListChangesNothing() {
+        fullList();
+        ReviewEntity review = store(4, GAME, 2, 0);
+        cache.onReviewChanged(ReviewChangedEvent.created(review));
+
+        assertEquals(List.of(1L, 2L, 3L), ids(cache.get(GAME, 3)));
+        assertEquals(1, stored.loads);
+    }
+
+    @Test
+    void sameRatingOrdersNewestFirst() {
+        store(1, GAME, 9, 0);
+        store(2, GAME, 7, 10);
+        cache.get(GAME, 3);
+
+        ReviewEntity newer = store(3, GAME, 7, 0);
+        cache.onReviewChanged(ReviewChangedEvent.created(newer));
+
+        assertEquals(List.of(1L, 3L, 2L), ids(cache.get(GAME, 3)));
+        assertEquals(1, stored.loads);
+    }
+
+    @Test
+    void deletingFromAFullListEvictsIt() {
+        fullList();
+        store(4, GAME, 1, 0);
+        ReviewEntity deleted = remove(2);
+        cache.onReviewChanged(ReviewChangedEvent.deleted(deleted));
+
+        assertEquals(List.of(1L, 3L, 4L), ids(cache.get(GAME, 3)));
+        assertEquals(2, stored.loads);
+    }
+
+    @Test
+    void deletingFromAShortListPatchesIt() {
+        store(1, GAME, 9, 0);
+        store(2, GAME, 7, 0);
+        cache.get(GAME, 3);
+
+        cache.onReviewChanged(ReviewChangedEvent.deleted(remove(1)));
+
+        assertEquals(List.of(2L), ids(cache.get(GAME, 3)));
+        assertEquals(1, stored.loads);
+    }
+
+    @Test
+    void cachedReviewRatedDownInAFullListEvictsIt() {
+        fullList();
+        store(4, GAME, 4, 0);
+        ReviewEntity review = find(1);
+        review.setRating(3);
+        cache.onReviewChanged(ReviewChangedEvent.updated(review, GAME));
+
+        assertEquals(List.of(2L, 3L, 4L), ids(cache.get(GAME, 3)));
+        assertEquals(2, stored.loads);
+    }
+
+    @Test
+    void cachedReviewRatedUpMovesWithoutAReload() {
+        fullList();
+        ReviewEntity review = find(3);
+        review.setRating(10);
+        cache.onReviewChanged(ReviewChangedEvent.updated(review, GAME));
+
+        assertEquals(List.of(3L, 1L, 2L), ids(cache.get(GAME, 3)));
+        assertEquals(1, stored.loads);
+    }
+
+    @Test
+    void reviewMovedToAnotherGameLeavesOneListAndJoinsTheOther() {
+        store(1, GAME, 9, 0);
+        store(2, GAME, 7, 0);
+        store(3, OTHER_GAME, 5, 0);
+        cache.get(GAME, 3);
+        cache.get(OTHER_GAME, 3);
+
+        ReviewEntity review = find(2);
+        review.setGameId(OTHER_GAME);
+        cache.onReviewChanged(ReviewChangedEvent.updated(review, GAME));
+
+        assertEquals(List.of(1L), ids(cache.get(GAME, 3)));
+        assertEquals(List.of(2L, 3L), ids(cache.get(OTHER_GAME, 3)));
+        assertEquals(2, stored.loads);
+    }
+
+    @Test
+    void replayedEventChangesNothing() {
+        fullList();
+        ReviewEntity review = store(4, GAME, 8, 0);
+        cache.onReviewChanged(ReviewChangedEvent.created(review));
+        cache.onReviewChanged(ReviewChangedEvent.created(review));
+
+        assertEquals(List.of(1L, 4L, 2L), ids(cache.get(GAME, 3)));
+        assertEquals(1, stored.loads);
+    }
+
+    @Test
+    void eventsForUncachedGamesAreIgnored() {
+        ReviewEntity review = store(1, GAME, 9, 0);
+        cache.onReviewChanged(ReviewChangedEvent.created(review));
+        assertEquals(0, stored.loads);
+    }
+
+    // Three reviews of GAME rated 9, 7 and 5, already cached
+    private void fullList() {
+        store(1, GAME, 9, 0);
+        store(2, GAME, 7, 0);
+        store(3, GAME, 5, 0);
+        cache.get(GAME, 3);
+    }
+
+    private ReviewEntity store(long id, long gameId, int rating, int minutesAgo) {
+        ReviewEntity review = ReviewEntity.builder()
+                .id(id)
+                .gameId(gameId)
+                .rating(rating)
+                .createdAt(NOW.minusMinutes(minutesAgo))
+                .build();
+        stored.rows.add(review);
+        return review;
+    }
+
+    private ReviewEntity find(long id) {
+        return stored.rows.stream().filter(r -> r.getId() == id).findFirst().orElseThrow();
+    }
+
+    private ReviewEntity remove(long id) {
+        ReviewEntity review = find(id);
+        stored.rows.remove(review);
+        return review;
+    }
+
+    private static List<Long> ids(List<ReviewEntity> reviews) {
+        return reviews.stream().map(ReviewEntity::getId).toList();
+    }
+}
@@ -0,0 +1,78 @@
+package GamersCoveDev.services.search;
+
+import GamersCoveDev.domains.entities.GameEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExternalIdBloomFilterTest {
+
+    private static final int INSERTED = 10_000;
+
+    private ExternalIdBloomFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ExternalIdBloomFilter(INSERTED, 0.01);
+    }
+
+    @Test
+    void answersMaybeForEverythingUntilRebuilt() {
+        assertTrue(filter.mightContain("igdb_1"));
+        filter.put("igdb_2");
+        assertTrue(filter.mightContain("igdb_1"));
+
+        filter.rebuilt();
+        assertFalse(filter.mightContain("igdb_1"));
+        assertTrue(filter.mightContain("igdb_2"));
+    }
+
+    @Test
+    void neverForgetsAnInsertedId() {
+        for (int i = 0; i < INSERTED; i++) {
+            filter.put("igdb_" + i);
+        }
+        filter.rebuilt();
+        for (int i = 0; i < INSERTED; i++) {
+            assertTrue(filter.mightContain("igdb_" + i), "igdb_" + i + " was inserted");
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheConfiguredRate() {
+        for (int i = 0; i < INSERTED; i++) {
+            filter.put("igdb_" + i);
+        }
+        filter.rebuilt();
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("rawg_" + i)) {
+                falsePositives++;
+            }
+        }
+        // 1% configured; allow for variance around it
+        assertTrue(falsePositives < probes * 0.02, falsePositives + " false positives in " + probes);
+    }
+
+    @Test
+    void indexSkipsGamesWithoutAnExternalId() {
+        filter.index(GameEntity.builder().id(1L).externalApiId("igdb_7").build());
+        filter.index(GameEntity.builder().id(2L).build());
+        filter.rebuilt();
+        assertTrue(filter.mightContain("igdb_7"));
+    }
+
+    @Test
+    void clearForgetsEverythingAndWaitsForTheNextRebuild() {
+        filter.put("igdb_1");
+        filter.rebuilt();
+        filter.clear();
+        assertTrue(filter.mightContain("igdb_3"));
+
+        filter.rebuilt();
+        assertFalse(filter.mightContain("igdb_1"));
+    }
+}
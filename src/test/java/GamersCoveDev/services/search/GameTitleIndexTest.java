@@ -0,0 +1,99 @@
+package GamersCoveDev.services.search;
+
+import GamersCoveDev.domains.dto.GameSuggestionDto;
+import GamersCoveDev.domains.entities.GameEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameTitleIndexTest {
+
+    private GameTitleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GameTitleIndex();
+        index(1L, "The Legend of Zelda");
+        index(2L, "Zelda II: The Adventure of Link");
+        index(3L, "Hollow Knight");
+        index(4L, "Pokémon Legends: Arceus");
+        index(5L, "Star Wars: Knights of the Old Republic");
+    }
+
+    @Test
+    void titleStartMatchesRankBeforeLaterWordMatches() {
+        assertEquals(List.of(2L, 1L), ids(index.suggest("zel", 10)));
+        assertEquals(List.of(3L, 5L), ids(index.suggest("kni", 10)));
+    }
+
+    @Test
+    void laterWordMatchesAreOrderedByTheirText() {
+        // "legend of zelda" sorts before "legends arceus"
+        assertEquals(List.of(1L, 4L), ids(index.suggest("legend", 10)));
+        assertEquals(List.of(4L), ids(index.suggest("legends", 10)));
+    }
+
+    @Test
+    void matchesIgnoreCaseDiacriticsAndPunctuation() {
+        assertEquals(List.of(4L), ids(index.suggest("POKEMON", 10)));
+        assertEquals(List.of(2L), ids(index.suggest("zelda ii the", 10)));
+        assertEquals(List.of(5L), ids(index.suggest("star-wars", 10)));
+    }
+
+    @Test
+    void prefixMustStartAWord() {
+        assertTrue(index.suggest("ollow", 10).isEmpty());
+        assertTrue(index.suggest("elda", 10).isEmpty());
+    }
+
+    @Test
+    void limitCapsResultsAndEachGameAppearsOnce() {
+        // "The The" matches at its start and at its second word but is listed once
+        index(6L, "The The");
+        List<Long> ids = ids(index.suggest("the", 10));
+        assertEquals(List.of(1L, 6L, 2L, 5L), ids);
+        assertEquals(List.of(1L, 6L), ids(index.suggest("the", 2)));
+    }
+
+    @Test
+    void identicalTitlesKeepBothGames() {
+        index(7L, "Hollow Knight");
+        assertEquals(List.of(3L, 7L), ids(index.suggest("hollow", 10)));
+    }
+
+    @Test
+    void reindexingReplacesThePreviousTitle() {
+        index(3L, "Hollow Knight: Silksong");
+        assertEquals(List.of(3L), ids(index.suggest("silk", 10)));
+        assertEquals(List.of(3L), ids(index.suggest("hollow", 10)));
+        assertEquals("Hollow Knight: Silksong", index.suggest("hollow", 10).get(0).getTitle());
+
+        index(3L, "Silksong");
+        assertTrue(index.suggest("hollow", 10).isEmpty());
+        assertEquals(List.of(5L), ids(index.suggest("kni", 10)));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void blankQueriesAndClearedIndexReturnNothing() {
+        assertTrue(index.suggest("  ", 10).isEmpty());
+        assertTrue(index.suggest(null, 10).isEmpty());
+        assertTrue(index.suggest("zel", 0).isEmpty());
+
+        index.clear();
+        assertTrue(index.suggest("zel", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    private void index(Long id, String title) {
+        index.index(GameEntity.builder().id(id).title(title).build());
+    }
+
+    private static List<Long> ids(List<GameSuggestionDto> suggestions) {
+        return suggestions.stream().map(GameSuggestionDto::getId).toList();
+    }
+}